@@ -27,6 +27,7 @@ repositories {
 dependencies {
 	implementation("org.springframework.boot:spring-boot-h2console")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+	implementation("org.springframework.boot:spring-boot-starter-data-redis")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-webmvc")
 
@@ -41,9 +42,70 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-data-jpa-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-security-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-webmvc-test")
+	testImplementation("org.springframework.boot:spring-boot-testcontainers")
+	testImplementation("org.testcontainers:testcontainers-junit-jupiter")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+// 기동 시간 최적화 빌드 (./gradlew bootJar -Paot)
+// startup 프로파일 기준으로 빈 정의를 빌드 시점에 생성, 실행 시 -Dspring.aot.enabled=true
+// @Conditional은 빌드 시점 값으로 고정되므로 저장소/스레드 모드는 실행 환경과 같은 값으로 빌드
+// (예: CLUSTER_STORE=redis ./gradlew bootJar -Paot 또는 -PclusterStore=redis, 다르면 기동 시 중단)
+if (providers.gradleProperty("aot").isPresent) {
+	apply(plugin = "org.springframework.boot.aot")
+
+	val clusterStore = providers.gradleProperty("clusterStore")
+		.orElse(providers.environmentVariable("CLUSTER_STORE"))
+		.getOrElse("memory")
+	val virtualThreads = providers.gradleProperty("virtualThreads")
+		.orElse(providers.environmentVariable("VIRTUAL_THREADS_ENABLED"))
+		.getOrElse("true")
+
+	tasks.named<org.springframework.boot.gradle.tasks.aot.ProcessAot>("processAot") {
+		args(
+			"--spring.profiles.active=startup",
+			"--app.cluster.store=$clusterStore",
+			"--spring.threads.virtual.enabled=$virtualThreads"
+		)
+	}
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.named<Test>("test") {
+	useJUnitPlatform {
+		excludeTags("benchmark", "redis")
+	}
+}
+
+// 실제 Redis(Testcontainers, Docker 필요) 대상 테스트 - 임대 Lua 스크립트 등
+tasks.register<Test>("redisTest") {
+	description = "Runs redis-tagged tests against a Redis container."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("redis")
+	}
+}
+
+// 일봉 차트 API 동시 요청 처리량 벤치마크 (실제 포트로 기동, 키움은 로컬 스텁, 플랫폼 스레드 vs 가상 스레드)
+tasks.register<Test>("benchmark") {
+	description = "Runs benchmark-tagged tests against local stubs."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	val report = layout.buildDirectory.file("reports/benchmark/kiwoom-concurrency.txt").get().asFile
+	systemProperty("benchmark.report", report.path)
+	// 결과는 실행 환경에 따라 달라지므로 매번 다시 측정 (모드별로 이어 쓰므로 이전 결과 삭제)
+	outputs.upToDateWhen { false }
+	doFirst { report.delete() }
+	testLogging {
+		showStandardStreams = true
+	}
+}
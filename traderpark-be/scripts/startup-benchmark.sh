@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 / RSS 비교 (기본 실행 vs startup 프로파일 + Spring AOT + AppCDS)
+#
+# 사용법:
+#   cd traderpark-be
+#   JASYPT_ENCRYPTOR_PASSWORD=... ./scripts/startup-benchmark.sh
+#   BASELINE_REF=<커밋> RUNS=5 ./scripts/startup-benchmark.sh   # 기준 커밋/반복 횟수 지정
+#
+# 1. 최적화 이전 커밋(기본: startup 프로파일 도입 직전)을 별도 worktree에서 빌드해 기동 시간/RSS 측정
+# 2. -Paot로 AOT jar 빌드 후 extract (CDS는 압축 해제된 jar 레이아웃 필요)
+# 3. 학습 실행(spring.context.exit=onRefresh)으로 CDS 아카이브 생성
+# 4. startup 프로파일 + AOT + CDS로 기동 시간/RSS 측정 (결과: build/reports/startup-benchmark.txt)
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-18080}
+RUNS=${RUNS:-3}
+WORK_DIR=build/startup
+JAR_NAME=tradierpark-0.0.1-SNAPSHOT.jar
+REPORT=build/reports/startup-benchmark.txt
+
+# 기준선: 지연 복호화/startup 프로파일이 들어오기 전 커밋
+BASELINE_REF=${BASELINE_REF:-$(git log --diff-filter=A --format=%H -- src/main/resources/application-startup.yaml | tail -1)^}
+
+# 기동 완료 로그("Started ... in X seconds")까지 대기 후 기동 시간과 RSS 출력
+measure() {
+    local label=$1
+    shift
+    local log="$WORK_DIR/$label.log"
+
+    "$@" --server.port="$PORT" > "$log" 2>&1 &
+    local pid=$!
+
+    for _ in $(seq 1 600); do
+        if grep -q "Started TradierparkApplication" "$log"; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "[$label] 기동 실패 - $log 확인"
+            return 1
+        fi
+        sleep 0.1
+    done
+
+    local started rss_kb
+    started=$(grep -o "Started TradierparkApplication in [0-9.]* seconds" "$log" | grep -o "[0-9.]*" | head -1)
+    rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    printf "[%-10s] 기동 %ss, RSS %d MB\n" "$label" "$started" "$((rss_kb / 1024))" | tee -a "$REPORT"
+}
+
+echo "== 기준선 빌드 ($(git rev-parse --short "$BASELINE_REF"))"
+./gradlew -q clean
+mkdir -p "$WORK_DIR"
+BASELINE_TREE=$(mktemp -d)
+trap 'git worktree remove --force "$BASELINE_TREE" 2>/dev/null || true' EXIT
+git worktree add --detach "$BASELINE_TREE" "$BASELINE_REF" > /dev/null
+(cd "$BASELINE_TREE/traderpark-be" && ./gradlew -q bootJar)
+cp "$BASELINE_TREE/traderpark-be/build/libs/$JAR_NAME" "$WORK_DIR/baseline.jar"
+
+echo "== AOT 빌드 + extract"
+./gradlew -q bootJar -Paot
+java -Djarmode=tools -jar "build/libs/$JAR_NAME" extract --destination "$WORK_DIR/optimized"
+
+OPTIMIZED_OPTS=(-Dspring.aot.enabled=true -Dspring.profiles.active=startup)
+
+echo "== CDS 학습 실행"
+java -XX:ArchiveClassesAtExit="$WORK_DIR/optimized/app.jsa" \
+    "${OPTIMIZED_OPTS[@]}" -Dspring.context.exit=onRefresh \
+    -jar "$WORK_DIR/optimized/$JAR_NAME" --server.port="$PORT" > "$WORK_DIR/training.log" 2>&1
+
+echo "== 측정 (${RUNS}회)"
+mkdir -p "$(dirname "$REPORT")"
+{
+    echo "기준선 $(git rev-parse --short "$BASELINE_REF"), 측정 $(git rev-parse --short HEAD)"
+    java -version 2>&1 | head -1
+    echo "CPU $(nproc)코어"
+} | tee "$REPORT"
+for _ in $(seq 1 "$RUNS"); do
+    measure baseline java -jar "$WORK_DIR/baseline.jar"
+    measure optimized java -XX:SharedArchiveFile="$WORK_DIR/optimized/app.jsa" \
+        "${OPTIMIZED_OPTS[@]}" -jar "$WORK_DIR/optimized/$JAR_NAME"
+done
@@ -0,0 +1,46 @@
+package com.hidvid.tradierpark.api.alert.controller;
+
+import com.hidvid.tradierpark.api.alert.dto.AlertRuleDto;
+import com.hidvid.tradierpark.api.alert.dto.CreateAlertRuleRequest;
+import com.hidvid.tradierpark.api.alert.service.AlertNotifier;
+import com.hidvid.tradierpark.api.alert.service.AlertService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/alerts")
+@RequiredArgsConstructor
+public class AlertController {
+
+    private final AlertService alertService;
+    private final AlertNotifier alertNotifier;
+
+    @GetMapping
+    public ResponseEntity<List<AlertRuleDto>> getRules() {
+        return ResponseEntity.ok(alertService.getRules());
+    }
+
+    @PostMapping
+    public ResponseEntity<AlertRuleDto> createRule(@RequestBody CreateAlertRuleRequest request) {
+        return ResponseEntity.ok(alertService.createRule(request));
+    }
+
+    @DeleteMapping("/{ruleId}")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long ruleId) {
+        alertService.deleteRule(ruleId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 알림 구독 (Server-Sent Events, event: alert)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return alertNotifier.subscribe();
+    }
+}
@@ -0,0 +1,30 @@
+package com.hidvid.tradierpark.api.alert.dto;
+
+import com.hidvid.tradierpark.domain.alert.entity.AlertType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSE로 전달되는 알림 이벤트
+ * observed: 충족 시점의 관측값 (가격 / 하락률(%) / 평균 거래량 대비 배수)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlertEventDto {
+
+    private Long ruleId;
+    private String stockCode;
+    private AlertType type;
+    private double threshold;
+    private int lookbackDays;
+    private double observed;
+    private long price;
+    private LocalDateTime triggeredAt;
+}
@@ -0,0 +1,35 @@
+package com.hidvid.tradierpark.api.alert.dto;
+
+import com.hidvid.tradierpark.domain.alert.entity.AlertRule;
+import com.hidvid.tradierpark.domain.alert.entity.AlertType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class AlertRuleDto {
+
+    private Long id;
+    private String stockCode;
+    private AlertType type;
+    private double threshold;
+    private int lookbackDays;
+    private boolean active;
+    private LocalDateTime createdAt;
+    private LocalDateTime triggeredAt;
+
+    public static AlertRuleDto from(AlertRule rule) {
+        return AlertRuleDto.builder()
+                .id(rule.getId())
+                .stockCode(rule.getStockCode())
+                .type(rule.getType())
+                .threshold(rule.getThreshold())
+                .lookbackDays(rule.getLookbackDays())
+                .active(rule.isActive())
+                .createdAt(rule.getCreatedAt())
+                .triggeredAt(rule.getTriggeredAt())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.hidvid.tradierpark.api.alert.dto;
+
+import com.hidvid.tradierpark.domain.alert.entity.AlertType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CreateAlertRuleRequest {
+
+    private String stockCode;
+    private AlertType type;
+    private Double threshold;
+    private Integer lookbackDays;
+}
@@ -0,0 +1,148 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.api.alert.dto.AlertEventDto;
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto;
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto.ChartItemDto;
+import com.hidvid.tradierpark.domain.alert.entity.AlertRule;
+import com.hidvid.tradierpark.domain.alert.repository.AlertRuleRepository;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 평가 엔진
+ *
+ * 활성 규칙을 종목별 SymbolAlertBook에 인덱싱해 두고, 틱이 들어오면 해당 종목에서
+ * 임계값을 넘은 규칙만 꺼내 DB에서 비활성화하고, 실제로 비활성화된 규칙만 발송한다.
+ *
+ * 규칙 등록/해제와 발송 이벤트는 공유 저장소 채널로 전파되어 모든 인스턴스의 인덱스가 같게 유지된다.
+ * 틱 평가는 리더(AlertTickPoller)만 수행하고, SSE 전달은 각 인스턴스가 자기 구독자에게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertEngine {
+
+    static final String RULES_CHANNEL = "alerts:rules";
+    static final String FIRED_CHANNEL = "alerts:fired";
+
+    private final AlertRuleRepository alertRuleRepository;
+    private final AlertNotifier alertNotifier;
+    private final SharedStore sharedStore;
+
+    private final Map<String, SymbolAlertBook> books = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRules() {
+        List<AlertRule> rules = alertRuleRepository.findAllByActiveTrue();
+        rules.forEach(rule -> register(ArmedRule.from(rule)));
+        log.info("알림 규칙 로딩 - {}건, 종목 {}개", rules.size(), books.size());
+
+        sharedStore.subscribe(RULES_CHANNEL, AlertRuleChange.class, change -> {
+            if (change.armed()) {
+                register(change.rule());
+            } else {
+                unregister(change.rule());
+            }
+        });
+        sharedStore.subscribe(FIRED_CHANNEL, AlertEventDto.class, event -> {
+            unregister(ArmedRule.from(event));
+            alertNotifier.publish(event);
+        });
+    }
+
+    void register(ArmedRule rule) {
+        books.compute(rule.stockCode(), (code, book) -> {
+            SymbolAlertBook target = book != null ? book : new SymbolAlertBook();
+            target.add(rule);
+            return target;
+        });
+    }
+
+    void unregister(ArmedRule rule) {
+        books.computeIfPresent(rule.stockCode(), (code, book) -> {
+            book.remove(rule);
+            return book.isEmpty() ? null : book;
+        });
+    }
+
+    /**
+     * 평가 대기 규칙이 있는 종목 목록 (틱 수집 대상)
+     */
+    public Set<String> getWatchedStockCodes() {
+        return books.keySet().stream().collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 일봉 차트 반영 - 기간별 최고가/평균 거래량 갱신 후 최신 봉을 틱으로 평가
+     */
+    public void onChart(String stockCode, DailyChartDto chart) {
+        SymbolAlertBook book = books.get(stockCode);
+        if (book == null || chart.getItems().isEmpty()) {
+            return;
+        }
+
+        book.updateHistory(chart.getItems());
+
+        ChartItemDto latest = chart.getItems().get(0);
+        onTick(new StockTick(stockCode, latest.getClose(), latest.getVolume()));
+    }
+
+    public void onTick(StockTick tick) {
+        SymbolAlertBook book = books.get(tick.stockCode());
+        if (book == null) {
+            return;
+        }
+
+        List<FiredAlert> fired = book.onTick(tick.price(), tick.volume());
+        if (fired.isEmpty()) {
+            return;
+        }
+
+        books.computeIfPresent(tick.stockCode(), (code, current) -> current.isEmpty() ? null : current);
+
+        LocalDateTime triggeredAt = LocalDateTime.now();
+
+        // 발송 이벤트는 채널을 거쳐 모든 인스턴스의 인덱스 해제와 SSE 전달로 이어진다
+        for (FiredAlert alert : fired) {
+            ArmedRule rule = alert.rule();
+            if (!deactivate(rule, triggeredAt)) {
+                continue;
+            }
+            sharedStore.publish(FIRED_CHANNEL, AlertEventDto.builder()
+                    .ruleId(rule.id())
+                    .stockCode(rule.stockCode())
+                    .type(rule.type())
+                    .threshold(rule.threshold())
+                    .lookbackDays(rule.lookbackDays())
+                    .observed(alert.observed())
+                    .price(tick.price())
+                    .triggeredAt(triggeredAt)
+                    .build());
+        }
+    }
+
+    /**
+     * 발송 전 DB 비활성화 - 이미 비활성/삭제된 규칙이면 false
+     * 저장에 실패하면 인덱스에 되돌려 DB(활성)와 어긋나지 않게 하고 다음 교차 때 다시 평가한다.
+     */
+    private boolean deactivate(ArmedRule rule, LocalDateTime triggeredAt) {
+        try {
+            return alertRuleRepository.markTriggered(rule.id(), triggeredAt) > 0;
+        } catch (RuntimeException e) {
+            log.warn("알림 규칙 비활성화 실패 - 규칙: {}, msg: {}", rule.id(), e.getMessage());
+            register(rule);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.api.alert.dto.AlertEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 알림 SSE 구독 관리 및 발송
+ */
+@Component
+@Slf4j
+public class AlertNotifier {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        // 연결 직후 이벤트 1회 전송 (프록시 응답 버퍼링 방지)
+        send(emitter, SseEmitter.event().name("connected").data("ok"));
+        return emitter;
+    }
+
+    public void publish(AlertEventDto event) {
+        log.info("알림 발송 - 규칙: {}, 종목: {}, 조건: {} {}, 관측값: {}",
+                event.getRuleId(), event.getStockCode(), event.getType(), event.getThreshold(), event.getObserved());
+
+        for (SseEmitter emitter : emitters) {
+            send(emitter, SseEmitter.event()
+                    .name("alert")
+                    .id(String.valueOf(event.getRuleId()))
+                    .data(event));
+        }
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+        }
+    }
+}
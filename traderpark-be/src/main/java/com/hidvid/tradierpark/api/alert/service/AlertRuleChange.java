@@ -0,0 +1,17 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.domain.alert.entity.AlertRule;
+
+/**
+ * 알림 규칙 등록/해제 메시지 (인스턴스 간 평가 인덱스 동기화용)
+ */
+record AlertRuleChange(boolean armed, ArmedRule rule) {
+
+    static AlertRuleChange armed(AlertRule rule) {
+        return new AlertRuleChange(true, ArmedRule.from(rule));
+    }
+
+    static AlertRuleChange disarmed(AlertRule rule) {
+        return new AlertRuleChange(false, ArmedRule.from(rule));
+    }
+}
@@ -0,0 +1,85 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.api.alert.dto.AlertRuleDto;
+import com.hidvid.tradierpark.api.alert.dto.CreateAlertRuleRequest;
+import com.hidvid.tradierpark.domain.alert.entity.AlertRule;
+import com.hidvid.tradierpark.domain.alert.entity.AlertType;
+import com.hidvid.tradierpark.domain.alert.repository.AlertRuleRepository;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AlertService {
+
+    private static final int DEFAULT_LOOKBACK_DAYS = 20;
+    private static final int MAX_LOOKBACK_DAYS = 600;
+
+    private final AlertRuleRepository alertRuleRepository;
+    private final SharedStore sharedStore;
+
+    public List<AlertRuleDto> getRules() {
+        return alertRuleRepository.findAllByOrderByIdDesc().stream()
+                .map(AlertRuleDto::from)
+                .toList();
+    }
+
+    @Transactional
+    public AlertRuleDto createRule(CreateAlertRuleRequest request) {
+        if (request.getStockCode() == null || request.getStockCode().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종목코드를 입력하세요");
+        }
+        if (request.getType() == null || request.getThreshold() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "알림 조건을 입력하세요");
+        }
+
+        AlertType type = request.getType();
+        int lookbackDays = type.usesLookback()
+                ? (request.getLookbackDays() != null ? request.getLookbackDays() : DEFAULT_LOOKBACK_DAYS)
+                : 0;
+        if (type.usesLookback() && (lookbackDays < 1 || lookbackDays > MAX_LOOKBACK_DAYS)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "기간은 1~" + MAX_LOOKBACK_DAYS + "일 사이로 입력하세요");
+        }
+
+        AlertRule rule = alertRuleRepository.save(AlertRule.builder()
+                .stockCode(request.getStockCode().trim())
+                .type(type)
+                .threshold(normalizeThreshold(type, request.getThreshold()))
+                .lookbackDays(lookbackDays)
+                .build());
+
+        sharedStore.publishAfterCommit(AlertEngine.RULES_CHANNEL, AlertRuleChange.armed(rule));
+        return AlertRuleDto.from(rule);
+    }
+
+    @Transactional
+    public void deleteRule(Long ruleId) {
+        AlertRule rule = alertRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "알림 규칙을 찾을 수 없습니다: " + ruleId));
+
+        alertRuleRepository.delete(rule);
+        sharedStore.publishAfterCommit(AlertEngine.RULES_CHANNEL, AlertRuleChange.disarmed(rule));
+    }
+
+    /**
+     * 하락률은 DailyChartDto.dropRate와 같은 부호(음수)로 통일
+     */
+    private double normalizeThreshold(AlertType type, double threshold) {
+        return switch (type) {
+            case DROP_FROM_HIGH -> -Math.abs(threshold);
+            case VOLUME_SPIKE, PRICE_ABOVE, PRICE_BELOW -> {
+                if (threshold <= 0) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "임계값은 0보다 커야 합니다");
+                }
+                yield threshold;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto;
+import com.hidvid.tradierpark.global.util.MarketHours;
+import com.hidvid.tradierpark.infra.broker.kiwoom.service.KiwoomApiService;
+import com.hidvid.tradierpark.infra.cluster.service.LeaderElection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 알림 대상 종목 틱 수집
+ * 실시간 시세 연동 전까지 일봉 차트의 최신 봉(현재가/누적 거래량)을 틱으로 사용한다.
+ * 시세 수집은 리더 인스턴스만 수행한다 (키움 호출/중복 발송 방지).
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@Slf4j
+public class AlertTickPoller {
+
+    // 지연 초기화(startup 프로파일) 시 키움 빈은 실제 조회 시점에 생성
+    private final ObjectProvider<KiwoomApiService> kiwoomApiService;
+    private final AlertEngine alertEngine;
+    private final LeaderElection leaderElection;
+
+    @Scheduled(
+            initialDelayString = "${app.alert.initial-delay:PT10S}",
+            fixedDelayString = "${app.alert.poll-interval:PT10S}"
+    )
+    public void poll() {
+        Set<String> stockCodes = alertEngine.getWatchedStockCodes();
+        if (stockCodes.isEmpty() || !leaderElection.isLeader()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now(MarketHours.KST);
+        for (String stockCode : stockCodes) {
+            try {
+                DailyChartDto chart = DailyChartDto.from(kiwoomApiService.getObject().getDailyChart(stockCode, today));
+                alertEngine.onChart(stockCode, chart);
+            } catch (Exception e) {
+                log.warn("알림 틱 수집 실패 - 종목: {}, msg: {}", stockCode, e.getMessage());
+            }
+        }
+    }
+}
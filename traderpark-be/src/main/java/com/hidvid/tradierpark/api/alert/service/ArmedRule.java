@@ -0,0 +1,19 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.api.alert.dto.AlertEventDto;
+import com.hidvid.tradierpark.domain.alert.entity.AlertRule;
+import com.hidvid.tradierpark.domain.alert.entity.AlertType;
+
+/**
+ * 평가 대기 중인 알림 규칙 (메모리 인덱스용 불변 스냅샷)
+ */
+record ArmedRule(Long id, String stockCode, AlertType type, double threshold, int lookbackDays) {
+
+    static ArmedRule from(AlertRule rule) {
+        return new ArmedRule(rule.getId(), rule.getStockCode(), rule.getType(), rule.getThreshold(), rule.getLookbackDays());
+    }
+
+    static ArmedRule from(AlertEventDto event) {
+        return new ArmedRule(event.getRuleId(), event.getStockCode(), event.getType(), event.getThreshold(), event.getLookbackDays());
+    }
+}
@@ -0,0 +1,6 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+/**
+ * 조건이 충족된 규칙과 충족 시점의 관측값 (가격 / 하락률 / 거래량 배수)
+ */
+record FiredAlert(ArmedRule rule, double observed) { }
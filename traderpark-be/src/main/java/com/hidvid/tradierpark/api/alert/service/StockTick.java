@@ -0,0 +1,10 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+/**
+ * 종목 체결 틱
+ *
+ * @param stockCode 종목코드
+ * @param price     현재가
+ * @param volume    당일 누적 거래량
+ */
+public record StockTick(String stockCode, long price, long volume) { }
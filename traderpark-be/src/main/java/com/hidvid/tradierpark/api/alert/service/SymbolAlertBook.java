@@ -0,0 +1,178 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto;
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto.ChartItemDto;
+
+import java.util.*;
+
+/**
+ * 종목 하나의 알림 규칙 인덱스
+ *
+ * 규칙을 종류별로 임계값 정렬 맵(TreeMap)에 보관한다. 충족된 규칙은 즉시 제거(1회성)되므로
+ * 인덱스에 남은 규칙은 모두 미충족 상태이고, 틱마다 임계값을 넘은 구간(subMap/headMap/tailMap)만 확인한다.
+ * 가격 상향/하향 돌파는 직전 틱과 현재 틱 사이를 지나간 임계값만 충족으로 본다.
+ * (등록 시점에 이미 넘어 있는 규칙은 되돌아왔다가 다시 넘을 때 발송, 첫 틱은 기준가로만 사용)
+ * 모든 메서드는 CPU 연산만 수행하므로 synchronized로 보호한다.
+ */
+class SymbolAlertBook {
+
+    private final ThresholdIndex priceAbove = new ThresholdIndex();
+    private final ThresholdIndex priceBelow = new ThresholdIndex();
+
+    // 기간(N일)별 인덱스 - 기간마다 기준 최고가/평균 거래량이 다르다
+    private final Map<Integer, ThresholdIndex> dropFromHigh = new HashMap<>();
+    private final Map<Integer, ThresholdIndex> volumeSpike = new HashMap<>();
+
+    private final Map<Integer, Long> highPrices = new HashMap<>();
+    private final Map<Integer, Double> averageVolumes = new HashMap<>();
+
+    // 직전 틱 가격 (돌파 판정 기준, 첫 틱 전에는 null)
+    private Long lastPrice;
+
+    synchronized void add(ArmedRule rule) {
+        indexFor(rule, true).add(rule);
+    }
+
+    synchronized void remove(ArmedRule rule) {
+        ThresholdIndex index = indexFor(rule, false);
+        if (index != null) {
+            index.remove(rule);
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return priceAbove.isEmpty() && priceBelow.isEmpty()
+                && dropFromHigh.values().stream().allMatch(ThresholdIndex::isEmpty)
+                && volumeSpike.values().stream().allMatch(ThresholdIndex::isEmpty);
+    }
+
+    /**
+     * 일봉(최신순)으로 기간별 최고가와 평균 거래량(당일 제외) 갱신
+     */
+    synchronized void updateHistory(List<ChartItemDto> items) {
+        for (int days : dropFromHigh.keySet()) {
+            long high = items.stream()
+                    .limit(days)
+                    .mapToLong(ChartItemDto::getHigh)
+                    .max()
+                    .orElse(0);
+            highPrices.put(days, high);
+        }
+
+        for (int days : volumeSpike.keySet()) {
+            OptionalDouble average = items.stream()
+                    .skip(1)
+                    .limit(days)
+                    .mapToLong(ChartItemDto::getVolume)
+                    .average();
+            if (average.isPresent() && average.getAsDouble() > 0) {
+                averageVolumes.put(days, average.getAsDouble());
+            }
+        }
+    }
+
+    /**
+     * 틱 평가 - 충족된 규칙을 인덱스에서 꺼내 반환
+     */
+    synchronized List<FiredAlert> onTick(long price, long volume) {
+        List<FiredAlert> fired = new ArrayList<>();
+
+        if (lastPrice != null && price > lastPrice) {
+            priceAbove.pollCrossedUp(lastPrice, price).forEach(rule -> fired.add(new FiredAlert(rule, price)));
+        } else if (lastPrice != null && price < lastPrice) {
+            priceBelow.pollCrossedDown(lastPrice, price).forEach(rule -> fired.add(new FiredAlert(rule, price)));
+        }
+        lastPrice = price;
+
+        for (Map.Entry<Integer, ThresholdIndex> entry : dropFromHigh.entrySet()) {
+            Long high = highPrices.get(entry.getKey());
+            if (high == null || high <= 0 || entry.getValue().isEmpty()) {
+                continue;
+            }
+            // 장중 신고가는 기준 최고가에 바로 반영
+            if (price > high) {
+                high = price;
+                highPrices.put(entry.getKey(), high);
+            }
+            double dropRate = DailyChartDto.calculateDropRate(high, price);
+            entry.getValue().pollAtOrAbove(dropRate).forEach(rule -> fired.add(new FiredAlert(rule, dropRate)));
+        }
+
+        for (Map.Entry<Integer, ThresholdIndex> entry : volumeSpike.entrySet()) {
+            Double average = averageVolumes.get(entry.getKey());
+            if (average == null || entry.getValue().isEmpty()) {
+                continue;
+            }
+            double ratio = Math.round(volume / average * 100.0) / 100.0;
+            entry.getValue().pollAtOrBelow(ratio).forEach(rule -> fired.add(new FiredAlert(rule, ratio)));
+        }
+
+        return fired;
+    }
+
+    private ThresholdIndex indexFor(ArmedRule rule, boolean create) {
+        return switch (rule.type()) {
+            case PRICE_ABOVE -> priceAbove;
+            case PRICE_BELOW -> priceBelow;
+            case DROP_FROM_HIGH -> create
+                    ? dropFromHigh.computeIfAbsent(rule.lookbackDays(), days -> new ThresholdIndex())
+                    : dropFromHigh.get(rule.lookbackDays());
+            case VOLUME_SPIKE -> create
+                    ? volumeSpike.computeIfAbsent(rule.lookbackDays(), days -> new ThresholdIndex())
+                    : volumeSpike.get(rule.lookbackDays());
+        };
+    }
+
+    /**
+     * 임계값 정렬 인덱스 (같은 임계값의 규칙은 id로 묶음)
+     */
+    private static class ThresholdIndex {
+
+        private final NavigableMap<Double, Map<Long, ArmedRule>> levels = new TreeMap<>();
+
+        void add(ArmedRule rule) {
+            levels.computeIfAbsent(rule.threshold(), threshold -> new LinkedHashMap<>()).put(rule.id(), rule);
+        }
+
+        void remove(ArmedRule rule) {
+            Map<Long, ArmedRule> rules = levels.get(rule.threshold());
+            if (rules != null && rules.remove(rule.id()) != null && rules.isEmpty()) {
+                levels.remove(rule.threshold());
+            }
+        }
+
+        boolean isEmpty() {
+            return levels.isEmpty();
+        }
+
+        /** from < 임계값 <= to 인 규칙 (가격 상향 돌파) */
+        List<ArmedRule> pollCrossedUp(double from, double to) {
+            return drain(levels.subMap(from, false, to, true));
+        }
+
+        /** to <= 임계값 < from 인 규칙 (가격 하향 돌파) */
+        List<ArmedRule> pollCrossedDown(double from, double to) {
+            return drain(levels.subMap(to, true, from, false));
+        }
+
+        /** 임계값 <= value 인 규칙 (상향 돌파) */
+        List<ArmedRule> pollAtOrBelow(double value) {
+            return drain(levels.headMap(value, true));
+        }
+
+        /** 임계값 >= value 인 규칙 (하향 돌파) */
+        List<ArmedRule> pollAtOrAbove(double value) {
+            return drain(levels.tailMap(value, true));
+        }
+
+        private static List<ArmedRule> drain(NavigableMap<Double, Map<Long, ArmedRule>> crossed) {
+            if (crossed.isEmpty()) {
+                return List.of();
+            }
+            List<ArmedRule> rules = new ArrayList<>();
+            crossed.values().forEach(level -> rules.addAll(level.values()));
+            crossed.clear();
+            return rules;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.hidvid.tradierpark.api.portfolio.controller;
 
 import com.hidvid.tradierpark.api.portfolio.dto.DailyBalanceDto;
+import com.hidvid.tradierpark.global.util.MarketHours;
 import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyBalanceResponse;
 import com.hidvid.tradierpark.infra.broker.kiwoom.service.KiwoomApiService;
 import lombok.RequiredArgsConstructor;
@@ -26,10 +27,16 @@ public class PortfolioController {
             @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date
     ) {
         if (date == null) {
-            date = LocalDate.now();
+            date = LocalDate.now(MarketHours.KST);
         }
 
         DailyBalanceResponse response = kiwoomApiService.getDailyBalance(date);
-        return ResponseEntity.ok(DailyBalanceDto.from(response));
+        DailyBalanceDto balance = DailyBalanceDto.from(response);
+
+        // If-None-Match 일치 시 304 (HttpEntityMethodProcessor가 ETag 비교)
+        return ResponseEntity.ok()
+                .eTag(balance.etag())
+                .cacheControl(MarketHours.cacheControl(date))
+                .body(balance);
     }
 }
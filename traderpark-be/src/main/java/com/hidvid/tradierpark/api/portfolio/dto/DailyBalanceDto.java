@@ -1,5 +1,6 @@
 package com.hidvid.tradierpark.api.portfolio.dto;
 
+import com.hidvid.tradierpark.global.util.ContentHash;
 import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyBalanceResponse;
 import lombok.Builder;
 import lombok.Getter;
@@ -70,4 +71,32 @@ public class DailyBalanceDto {
                 .stocks(stocks)
                 .build();
     }
+
+    /**
+     * ETag - 조회일 + 응답 내용 해시 (압축 전송 대비 weak ETag)
+     */
+    public String etag() {
+        ContentHash hash = new ContentHash()
+                .add(totalBuyAmount)
+                .add(totalEvalAmount)
+                .add(totalEvalProfit)
+                .add(totalProfitRate)
+                .add(depositBalance)
+                .add(dayStockAsset)
+                .add(cashWeight);
+        for (StockBalanceDto stock : stocks) {
+            hash.add(stock.getStockCode())
+                    .add(stock.getStockName())
+                    .add(stock.getCurrentPrice())
+                    .add(stock.getQuantity())
+                    .add(stock.getBuyPrice())
+                    .add(stock.getEvalAmount())
+                    .add(stock.getEvalProfit())
+                    .add(stock.getProfitRate())
+                    .add(stock.getBuyWeight())
+                    .add(stock.getEvalWeight());
+        }
+
+        return "W/\"" + date + "-" + hash.toHex() + "\"";
+    }
 }
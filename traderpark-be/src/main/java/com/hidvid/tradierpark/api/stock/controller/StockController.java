@@ -1,6 +1,7 @@
 package com.hidvid.tradierpark.api.stock.controller;
 
 import com.hidvid.tradierpark.api.stock.dto.DailyChartDto;
+import com.hidvid.tradierpark.global.util.MarketHours;
 import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyChartResponse;
 import com.hidvid.tradierpark.infra.broker.kiwoom.service.KiwoomApiService;
 import lombok.RequiredArgsConstructor;
@@ -17,17 +18,32 @@ public class StockController {
 
     private final KiwoomApiService kiwoomApiService;
 
+    /**
+     * 일봉 차트 조회
+     * since 지정 시 해당 날짜(포함) 이후 봉만 반환 - 클라이언트는 마지막 봉 날짜를 넘기고 결과를 병합
+     */
     @GetMapping("/{code}/daily-chart")
     public ResponseEntity<DailyChartDto> getDailyChart(
             @PathVariable String code,
             @RequestParam(required = false)
-            @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date
+            @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date,
+            @RequestParam(required = false)
+            @DateTimeFormat(pattern = "yyyyMMdd") LocalDate since
     ) {
         if (date == null) {
-            date = LocalDate.now();
+            date = LocalDate.now(MarketHours.KST);
         }
 
         DailyChartResponse response = kiwoomApiService.getDailyChart(code, date);
-        return ResponseEntity.ok(DailyChartDto.from(response));
+        DailyChartDto chart = DailyChartDto.from(response);
+        if (since != null) {
+            chart = chart.since(since);
+        }
+
+        // If-None-Match 일치 시 304 (HttpEntityMethodProcessor가 ETag 비교)
+        return ResponseEntity.ok()
+                .eTag(chart.etag())
+                .cacheControl(MarketHours.cacheControl(date))
+                .body(chart);
     }
 }
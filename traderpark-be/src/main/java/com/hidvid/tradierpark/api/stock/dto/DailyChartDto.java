@@ -1,9 +1,12 @@
 package com.hidvid.tradierpark.api.stock.dto;
 
+import com.hidvid.tradierpark.global.util.ContentHash;
 import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyChartResponse;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Getter
@@ -59,19 +62,72 @@ public class DailyChartDto {
 
         long currentPrice = items.isEmpty() ? 0 : items.get(0).getClose();
 
-        double dropRate = highPrice > 0
-                ? ((double) (currentPrice - highPrice) / highPrice) * 100
-                : 0;
-
         return DailyChartDto.builder()
                 .stockCode(response.getStockCode())
                 .highPrice(highPrice)
                 .currentPrice(currentPrice)
-                .dropRate(Math.round(dropRate * 100.0) / 100.0)
+                .dropRate(calculateDropRate(highPrice, currentPrice))
                 .items(items)
                 .build();
     }
 
+    /**
+     * 증분 조회용 - since(클라이언트가 가진 마지막 봉 날짜) 이후 봉만 남긴 복사본
+     * since 당일 봉도 포함해 장중 갱신된 마지막 봉을 함께 내려준다.
+     * 최고가/현재가/하락률은 전체 기간 기준 값을 그대로 유지한다.
+     */
+    public DailyChartDto since(LocalDate since) {
+        String sinceDate = since.format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        // items는 최신순 정렬
+        List<ChartItemDto> delta = items.stream()
+                .takeWhile(item -> item.getDate().compareTo(sinceDate) >= 0)
+                .toList();
+
+        return DailyChartDto.builder()
+                .stockCode(stockCode)
+                .highPrice(highPrice)
+                .currentPrice(currentPrice)
+                .dropRate(dropRate)
+                .items(delta)
+                .build();
+    }
+
+    /**
+     * ETag - 마지막 봉 날짜 + 응답 내용 해시 (압축 전송 대비 weak ETag)
+     */
+    public String etag() {
+        ContentHash hash = new ContentHash()
+                .add(stockCode)
+                .add(highPrice)
+                .add(currentPrice)
+                .add(dropRate);
+        for (ChartItemDto item : items) {
+            hash.add(item.getDate())
+                    .add(item.getOpen())
+                    .add(item.getHigh())
+                    .add(item.getLow())
+                    .add(item.getClose())
+                    .add(item.getVolume())
+                    .add(item.getTradeAmount())
+                    .add(item.getChange())
+                    .add(item.getChangeSign());
+        }
+
+        String lastBarDate = items.isEmpty() ? "none" : items.get(0).getDate();
+        return "W/\"" + lastBarDate + "-" + hash.toHex() + "\"";
+    }
+
+    /**
+     * 고점대비 하락률 (%, 소수점 둘째 자리 반올림)
+     */
+    public static double calculateDropRate(long highPrice, long currentPrice) {
+        double dropRate = highPrice > 0
+                ? ((double) (currentPrice - highPrice) / highPrice) * 100
+                : 0;
+        return Math.round(dropRate * 100.0) / 100.0;
+    }
+
     private static long parseLong(String value) {
         if (value == null || value.isBlank()) return 0;
         try {
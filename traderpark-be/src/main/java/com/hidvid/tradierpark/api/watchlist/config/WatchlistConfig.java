@@ -0,0 +1,56 @@
+package com.hidvid.tradierpark.api.watchlist.config;
+
+import com.hidvid.tradierpark.api.watchlist.service.WatchlistService;
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistGroup;
+import com.hidvid.tradierpark.domain.watchlist.repository.WatchlistGroupRepository;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(WatchlistProps.class)
+@Slf4j
+public class WatchlistConfig {
+
+    /**
+     * 기동 시 기본 그룹 등록(최초 1회) 후 순위 집계 대상 로딩,
+     * 이후 그룹 구성 변경 알림을 받을 때마다 다시 로딩
+     */
+    @Bean
+    public ApplicationRunner watchlistInitializer(
+            WatchlistProps watchlistProps,
+            WatchlistGroupRepository watchlistGroupRepository,
+            WatchlistService watchlistService,
+            SharedStore sharedStore,
+            TransactionTemplate transactionTemplate
+    ) {
+        return args -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (watchlistGroupRepository.count() > 0 || watchlistProps.defaultGroups() == null) {
+                    return;
+                }
+
+                int sortOrder = 0;
+                for (WatchlistProps.GroupSeed seed : watchlistProps.defaultGroups()) {
+                    WatchlistGroup group = WatchlistGroup.builder()
+                            .name(seed.name())
+                            .sortOrder(sortOrder++)
+                            .build();
+                    if (seed.stocks() != null) {
+                        seed.stocks().forEach(stock -> group.addItem(stock.code(), stock.name()));
+                    }
+                    watchlistGroupRepository.save(group);
+                }
+                log.info("관심종목 기본 그룹 등록 - {}개", watchlistProps.defaultGroups().size());
+            });
+
+            watchlistService.syncLeaderboard();
+            sharedStore.subscribe(WatchlistService.MEMBERS_CHANGED_CHANNEL, String.class,
+                    changedAt -> watchlistService.syncLeaderboard());
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.hidvid.tradierpark.api.watchlist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 관심종목 설정 프로퍼티
+ *
+ * @param defaultGroups 그룹이 하나도 없을 때 최초 등록할 기본 그룹 목록
+ */
+@ConfigurationProperties(prefix = "app.watchlist")
+public record WatchlistProps(
+        List<GroupSeed> defaultGroups
+) {
+
+    public record GroupSeed(String name, List<StockSeed> stocks) { }
+
+    public record StockSeed(String code, String name) { }
+}
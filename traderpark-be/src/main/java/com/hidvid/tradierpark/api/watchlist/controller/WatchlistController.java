@@ -0,0 +1,60 @@
+package com.hidvid.tradierpark.api.watchlist.controller;
+
+import com.hidvid.tradierpark.api.watchlist.dto.AddWatchlistItemRequest;
+import com.hidvid.tradierpark.api.watchlist.dto.CreateWatchlistGroupRequest;
+import com.hidvid.tradierpark.api.watchlist.dto.WatchlistGroupDto;
+import com.hidvid.tradierpark.api.watchlist.dto.WatchlistRankDto;
+import com.hidvid.tradierpark.api.watchlist.service.WatchlistLeaderboard;
+import com.hidvid.tradierpark.api.watchlist.service.WatchlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/watchlist")
+@RequiredArgsConstructor
+public class WatchlistController {
+
+    private final WatchlistService watchlistService;
+    private final WatchlistLeaderboard watchlistLeaderboard;
+
+    @GetMapping("/groups")
+    public ResponseEntity<List<WatchlistGroupDto>> getGroups() {
+        return ResponseEntity.ok(watchlistService.getGroups());
+    }
+
+    @PostMapping("/groups")
+    public ResponseEntity<WatchlistGroupDto> createGroup(@RequestBody CreateWatchlistGroupRequest request) {
+        return ResponseEntity.ok(watchlistService.createGroup(request.getName()));
+    }
+
+    @DeleteMapping("/groups/{groupId}")
+    public ResponseEntity<Void> deleteGroup(@PathVariable Long groupId) {
+        watchlistService.deleteGroup(groupId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/groups/{groupId}/items")
+    public ResponseEntity<WatchlistGroupDto> addItem(
+            @PathVariable Long groupId,
+            @RequestBody AddWatchlistItemRequest request
+    ) {
+        return ResponseEntity.ok(watchlistService.addItem(groupId, request.getStockCode(), request.getStockName()));
+    }
+
+    @DeleteMapping("/groups/{groupId}/items/{itemId}")
+    public ResponseEntity<Void> removeItem(@PathVariable Long groupId, @PathVariable Long itemId) {
+        watchlistService.removeItem(groupId, itemId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 고점대비 하락률 순위 - 백그라운드에서 미리 계산된 스냅샷 반환
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<WatchlistRankDto>> getLeaderboard() {
+        return ResponseEntity.ok(watchlistLeaderboard.getRanking());
+    }
+}
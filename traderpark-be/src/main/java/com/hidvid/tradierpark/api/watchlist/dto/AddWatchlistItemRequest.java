@@ -0,0 +1,12 @@
+package com.hidvid.tradierpark.api.watchlist.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class AddWatchlistItemRequest {
+
+    private String stockCode;
+    private String stockName;
+}
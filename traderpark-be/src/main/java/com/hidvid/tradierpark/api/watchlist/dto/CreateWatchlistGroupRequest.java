@@ -0,0 +1,11 @@
+package com.hidvid.tradierpark.api.watchlist.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CreateWatchlistGroupRequest {
+
+    private String name;
+}
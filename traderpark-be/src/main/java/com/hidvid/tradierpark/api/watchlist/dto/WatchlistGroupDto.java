@@ -0,0 +1,43 @@
+package com.hidvid.tradierpark.api.watchlist.dto;
+
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistGroup;
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistItem;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class WatchlistGroupDto {
+
+    private Long id;
+    private String name;
+    private List<ItemDto> items;
+
+    @Getter
+    @Builder
+    public static class ItemDto {
+        private Long id;
+        private String stockCode;
+        private String stockName;
+
+        public static ItemDto from(WatchlistItem item) {
+            return ItemDto.builder()
+                    .id(item.getId())
+                    .stockCode(item.getStockCode())
+                    .stockName(item.getStockName())
+                    .build();
+        }
+    }
+
+    public static WatchlistGroupDto from(WatchlistGroup group) {
+        return WatchlistGroupDto.builder()
+                .id(group.getId())
+                .name(group.getName())
+                .items(group.getItems().stream()
+                        .map(ItemDto::from)
+                        .toList())
+                .build();
+    }
+}
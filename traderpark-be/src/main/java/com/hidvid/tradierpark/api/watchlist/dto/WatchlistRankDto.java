@@ -0,0 +1,29 @@
+package com.hidvid.tradierpark.api.watchlist.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 관심종목 고점대비 하락률 순위
+ * lastBarDate가 null이면 아직 백그라운드 집계 전인 종목
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class WatchlistRankDto {
+
+    private int rank;
+    private String stockCode;
+    private String stockName;
+    private List<String> groupNames;
+    private long highPrice;
+    private long currentPrice;
+    private double dropRate;
+    private String lastBarDate;
+}
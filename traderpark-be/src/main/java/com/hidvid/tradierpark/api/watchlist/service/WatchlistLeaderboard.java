@@ -0,0 +1,146 @@
+package com.hidvid.tradierpark.api.watchlist.service;
+
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto;
+import com.hidvid.tradierpark.api.watchlist.dto.WatchlistRankDto;
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistGroup;
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistItem;
+import com.hidvid.tradierpark.infra.cluster.service.LeaderElection;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관심종목 고점대비 하락률 순위 (메모리 보관)
+ *
+ * 백그라운드 집계(WatchlistRefreshJob)가 종목별 최고가/현재가/하락률을 일봉 조회 구간 기준으로 갱신하고,
+ * 정렬된 순위 스냅샷을 미리 만들어 둔다. 조회는 스냅샷 참조만 반환한다.
+ * 여러 인스턴스로 운영하면 집계는 리더만 수행하고, 나머지는 공유 저장소의 스냅샷을 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WatchlistLeaderboard {
+
+    private static final String RANKING_KEY = "watchlist:ranking";
+    private static final Duration RANKING_TTL = Duration.ofMinutes(10);
+
+    private final SharedStore sharedStore;
+    private final LeaderElection leaderElection;
+
+    private final Map<String, DropStat> stats = new ConcurrentHashMap<>();
+
+    private volatile Map<String, Member> members = Map.of();
+    private volatile List<WatchlistRankDto> ranking = List.of();
+
+    public List<WatchlistRankDto> getRanking() {
+        if (leaderElection.isLeader()) {
+            return ranking;
+        }
+        return sharedStore.get(RANKING_KEY, RankingSnapshot.class)
+                .map(RankingSnapshot::items)
+                .orElse(ranking);
+    }
+
+    public Set<String> getStockCodes() {
+        return members.keySet();
+    }
+
+    /**
+     * 그룹 구성 변경 반영 (여러 그룹에 속한 종목은 한 번만 집계)
+     */
+    public void updateMembers(List<WatchlistGroup> groups) {
+        Map<String, Member> next = new LinkedHashMap<>();
+        for (WatchlistGroup group : groups) {
+            for (WatchlistItem item : group.getItems()) {
+                next.computeIfAbsent(item.getStockCode(), code -> new Member(item.getStockName(), new ArrayList<>()))
+                        .groupNames()
+                        .add(group.getName());
+            }
+        }
+
+        members = Collections.unmodifiableMap(next);
+        stats.keySet().retainAll(next.keySet());
+        refreshRanking();
+    }
+
+    /**
+     * 일봉 차트 반영 - 구간 밖으로 밀려난 봉이 최고가에 남지 않도록 매번 조회 구간 기준으로 교체
+     */
+    public void apply(String stockCode, DailyChartDto chart) {
+        if (chart.getItems().isEmpty() || !members.containsKey(stockCode)) {
+            return;
+        }
+        stats.put(stockCode, DropStat.from(chart, Instant.now()));
+    }
+
+    /**
+     * since 이후에 집계된 종목인지 (장 마감 후 재조회 생략용)
+     */
+    public boolean isRefreshedSince(String stockCode, Instant since) {
+        DropStat stat = stats.get(stockCode);
+        return stat != null && !stat.refreshedAt().isBefore(since);
+    }
+
+    public synchronized void refreshRanking() {
+        Map<String, Member> current = members;
+        List<Map.Entry<String, Member>> entries = new ArrayList<>(current.entrySet());
+
+        // 집계된 종목은 하락률 큰 순, 미집계 종목은 뒤로
+        entries.sort(Comparator.comparing(
+                (Map.Entry<String, Member> e) -> stats.get(e.getKey()),
+                Comparator.nullsLast(Comparator.comparingDouble(DropStat::dropRate))));
+
+        List<WatchlistRankDto> next = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Member> entry : entries) {
+            DropStat stat = stats.get(entry.getKey());
+            next.add(WatchlistRankDto.builder()
+                    .rank(next.size() + 1)
+                    .stockCode(entry.getKey())
+                    .stockName(entry.getValue().stockName())
+                    .groupNames(List.copyOf(entry.getValue().groupNames()))
+                    .highPrice(stat != null ? stat.highPrice() : 0)
+                    .currentPrice(stat != null ? stat.currentPrice() : 0)
+                    .dropRate(stat != null ? stat.dropRate() : 0)
+                    .lastBarDate(stat != null ? stat.lastBarDate() : null)
+                    .build());
+        }
+
+        ranking = List.copyOf(next);
+        publishRanking();
+    }
+
+    /**
+     * 현재 순위를 공유 저장소에 저장 (리더만, 갱신 주기마다 호출해 TTL 연장)
+     */
+    public void publishRanking() {
+        if (leaderElection.isLeader()) {
+            sharedStore.put(RANKING_KEY, new RankingSnapshot(ranking), RANKING_TTL);
+        }
+    }
+
+    /**
+     * 공유 저장소 보관용 순위 스냅샷
+     */
+    public record RankingSnapshot(List<WatchlistRankDto> items) { }
+
+    private record Member(String stockName, List<String> groupNames) { }
+
+    /**
+     * 종목별 집계값 - 조회한 일봉 구간 전체 기준 (DailyChartDto와 같은 계산)
+     */
+    private record DropStat(long highPrice, long currentPrice, double dropRate, String lastBarDate, Instant refreshedAt) {
+
+        static DropStat from(DailyChartDto chart, Instant refreshedAt) {
+            return new DropStat(
+                    chart.getHighPrice(),
+                    chart.getCurrentPrice(),
+                    chart.getDropRate(),
+                    chart.getItems().get(0).getDate(),
+                    refreshedAt);
+        }
+    }
+}
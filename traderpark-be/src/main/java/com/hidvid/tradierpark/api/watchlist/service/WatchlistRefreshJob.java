@@ -0,0 +1,70 @@
+package com.hidvid.tradierpark.api.watchlist.service;
+
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto;
+import com.hidvid.tradierpark.global.util.MarketHours;
+import com.hidvid.tradierpark.infra.broker.kiwoom.service.KiwoomApiService;
+import com.hidvid.tradierpark.infra.cluster.service.LeaderElection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * 관심종목 고점대비 하락률 백그라운드 집계 (리더 인스턴스만 수행)
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@Slf4j
+public class WatchlistRefreshJob {
+
+    // 지연 초기화(startup 프로파일) 시 키움 빈은 실제 조회 시점에 생성
+    private final ObjectProvider<KiwoomApiService> kiwoomApiService;
+    private final WatchlistLeaderboard watchlistLeaderboard;
+    private final LeaderElection leaderElection;
+
+    @Scheduled(
+            initialDelayString = "${app.watchlist.initial-delay:PT5S}",
+            fixedDelayString = "${app.watchlist.refresh-interval:PT1M}"
+    )
+    public void refresh() {
+        Set<String> stockCodes = watchlistLeaderboard.getStockCodes();
+        if (stockCodes.isEmpty() || !leaderElection.isLeader()) {
+            return;
+        }
+
+        ZonedDateTime now = ZonedDateTime.now(MarketHours.KST);
+        LocalDate today = now.toLocalDate();
+        // 장 마감 중에는 일봉이 바뀌지 않으므로 마감 이후 이미 집계한 종목은 다시 받지 않음
+        Instant lastClose = MarketHours.isOpen(now) ? null : MarketHours.lastClose(now).toInstant();
+        int updated = 0;
+
+        for (String stockCode : stockCodes) {
+            if (lastClose != null && watchlistLeaderboard.isRefreshedSince(stockCode, lastClose)) {
+                continue;
+            }
+            try {
+                DailyChartDto chart = DailyChartDto.from(kiwoomApiService.getObject().getDailyChart(stockCode, today));
+                watchlistLeaderboard.apply(stockCode, chart);
+                updated++;
+            } catch (Exception e) {
+                log.warn("관심종목 집계 실패 - 종목: {}, msg: {}", stockCode, e.getMessage());
+            }
+        }
+
+        if (updated == 0) {
+            // 순위는 그대로지만 팔로워가 읽는 스냅샷이 만료되지 않도록 매 주기 다시 저장
+            watchlistLeaderboard.publishRanking();
+            return;
+        }
+        watchlistLeaderboard.refreshRanking();
+        log.info("관심종목 순위 갱신 - 대상: {}, 성공: {}", stockCodes.size(), updated);
+    }
+}
@@ -0,0 +1,100 @@
+package com.hidvid.tradierpark.api.watchlist.service;
+
+import com.hidvid.tradierpark.api.watchlist.dto.WatchlistGroupDto;
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistGroup;
+import com.hidvid.tradierpark.domain.watchlist.repository.WatchlistGroupRepository;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WatchlistService {
+
+    // 그룹 구성 변경 알림 - 모든 인스턴스가 수신해 순위 집계 대상을 다시 읽는다
+    public static final String MEMBERS_CHANGED_CHANNEL = "watchlist:members-changed";
+
+    private final WatchlistGroupRepository watchlistGroupRepository;
+    private final WatchlistLeaderboard watchlistLeaderboard;
+    private final SharedStore sharedStore;
+
+    public List<WatchlistGroupDto> getGroups() {
+        return watchlistGroupRepository.findAllByOrderBySortOrderAscIdAsc().stream()
+                .map(WatchlistGroupDto::from)
+                .toList();
+    }
+
+    @Transactional
+    public WatchlistGroupDto createGroup(String name) {
+        if (name == null || name.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "그룹명을 입력하세요");
+        }
+
+        WatchlistGroup group = watchlistGroupRepository.save(WatchlistGroup.builder()
+                .name(name.trim())
+                .sortOrder((int) watchlistGroupRepository.count())
+                .build());
+
+        return WatchlistGroupDto.from(group);
+    }
+
+    @Transactional
+    public void deleteGroup(Long groupId) {
+        watchlistGroupRepository.delete(findGroup(groupId));
+        notifyMembersChanged();
+    }
+
+    @Transactional
+    public WatchlistGroupDto addItem(Long groupId, String stockCode, String stockName) {
+        if (stockCode == null || stockCode.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종목코드를 입력하세요");
+        }
+
+        WatchlistGroup group = findGroup(groupId);
+        String code = stockCode.trim();
+        if (group.contains(code)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 등록된 종목입니다: " + code);
+        }
+
+        group.addItem(code, stockName == null || stockName.isBlank() ? code : stockName.trim());
+        // 새 항목 id(IDENTITY)를 응답에 포함하기 위해 즉시 반영
+        watchlistGroupRepository.flush();
+        notifyMembersChanged();
+
+        return WatchlistGroupDto.from(group);
+    }
+
+    @Transactional
+    public void removeItem(Long groupId, Long itemId) {
+        WatchlistGroup group = findGroup(groupId);
+        if (!group.removeItem(itemId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "관심종목을 찾을 수 없습니다: " + itemId);
+        }
+        notifyMembersChanged();
+    }
+
+    /**
+     * 현재 그룹 구성을 순위 집계 대상에 반영
+     * 변경 알림은 커밋 후(afterCommit)에 수신될 수 있으므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션에서 조회
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void syncLeaderboard() {
+        watchlistLeaderboard.updateMembers(watchlistGroupRepository.findAllByOrderBySortOrderAscIdAsc());
+    }
+
+    private void notifyMembersChanged() {
+        sharedStore.publishAfterCommit(MEMBERS_CHANGED_CHANNEL, String.valueOf(System.currentTimeMillis()));
+    }
+
+    private WatchlistGroup findGroup(Long groupId) {
+        return watchlistGroupRepository.findById(groupId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "관심종목 그룹을 찾을 수 없습니다: " + groupId));
+    }
+}
@@ -0,0 +1,57 @@
+package com.hidvid.tradierpark.domain.alert.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 알림 규칙 - 조건 충족 시 1회 발송 후 비활성화
+ */
+@Entity
+@Table(
+        name = "alert_rule",
+        indexes = @Index(name = "idx_alert_rule_active", columnList = "active, stock_code")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AlertRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AlertType type;
+
+    @Column(nullable = false)
+    private double threshold;
+
+    @Column(nullable = false)
+    private int lookbackDays;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime triggeredAt;
+
+    @Builder
+    private AlertRule(String stockCode, AlertType type, double threshold, int lookbackDays) {
+        this.stockCode = stockCode;
+        this.type = type;
+        this.threshold = threshold;
+        this.lookbackDays = lookbackDays;
+        this.active = true;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,18 @@
+package com.hidvid.tradierpark.domain.alert.entity;
+
+/**
+ * 알림 조건 종류
+ * - PRICE_ABOVE / PRICE_BELOW: threshold = 가격
+ * - DROP_FROM_HIGH: threshold = N일 최고가 대비 하락률(%, 음수), DailyChartDto.dropRate와 동일한 계산
+ * - VOLUME_SPIKE: threshold = N일 평균 거래량 대비 배수
+ */
+public enum AlertType {
+    PRICE_ABOVE,
+    PRICE_BELOW,
+    DROP_FROM_HIGH,
+    VOLUME_SPIKE;
+
+    public boolean usesLookback() {
+        return this == DROP_FROM_HIGH || this == VOLUME_SPIKE;
+    }
+}
@@ -0,0 +1,23 @@
+package com.hidvid.tradierpark.domain.alert.repository;
+
+import com.hidvid.tradierpark.domain.alert.entity.AlertRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AlertRuleRepository extends JpaRepository<AlertRule, Long> {
+
+    List<AlertRule> findAllByActiveTrue();
+
+    List<AlertRule> findAllByOrderByIdDesc();
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AlertRule r set r.active = false, r.triggeredAt = :triggeredAt where r.id = :id and r.active = true")
+    int markTriggered(@Param("id") Long id, @Param("triggeredAt") LocalDateTime triggeredAt);
+}
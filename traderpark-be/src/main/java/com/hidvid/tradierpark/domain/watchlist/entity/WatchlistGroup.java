@@ -0,0 +1,58 @@
+package com.hidvid.tradierpark.domain.watchlist.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관심종목 그룹 (예: 바이오, 방산 / 조선)
+ */
+@Entity
+@Table(name = "watchlist_group")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WatchlistGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private int sortOrder;
+
+    @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id ASC")
+    private List<WatchlistItem> items = new ArrayList<>();
+
+    @Builder
+    private WatchlistGroup(String name, int sortOrder) {
+        this.name = name;
+        this.sortOrder = sortOrder;
+    }
+
+    public boolean contains(String stockCode) {
+        return items.stream().anyMatch(item -> item.getStockCode().equals(stockCode));
+    }
+
+    public WatchlistItem addItem(String stockCode, String stockName) {
+        WatchlistItem item = WatchlistItem.builder()
+                .group(this)
+                .stockCode(stockCode)
+                .stockName(stockName)
+                .build();
+        items.add(item);
+        return item;
+    }
+
+    public boolean removeItem(Long itemId) {
+        return items.removeIf(item -> item.getId().equals(itemId));
+    }
+}
@@ -0,0 +1,41 @@
+package com.hidvid.tradierpark.domain.watchlist.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관심종목 그룹에 속한 종목
+ */
+@Entity
+@Table(
+        name = "watchlist_item",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "stock_code"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WatchlistItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "group_id")
+    private WatchlistGroup group;
+
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode;
+
+    @Column(nullable = false, length = 100)
+    private String stockName;
+
+    @Builder
+    private WatchlistItem(WatchlistGroup group, String stockCode, String stockName) {
+        this.group = group;
+        this.stockCode = stockCode;
+        this.stockName = stockName;
+    }
+}
@@ -0,0 +1,13 @@
+package com.hidvid.tradierpark.domain.watchlist.repository;
+
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistGroup;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface WatchlistGroupRepository extends JpaRepository<WatchlistGroup, Long> {
+
+    @EntityGraph(attributePaths = "items")
+    List<WatchlistGroup> findAllByOrderBySortOrderAscIdAsc();
+}
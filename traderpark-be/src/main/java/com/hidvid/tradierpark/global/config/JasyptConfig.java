@@ -7,6 +7,7 @@ import org.jasypt.encryption.pbe.config.SimpleStringPBEConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 @Configuration
 @EnableEncryptableProperties
@@ -15,7 +16,11 @@ public class JasyptConfig {
     @Value("${jasypt.encryptor.password:defaultPassword}")
     private String encryptorPassword;
 
+    /**
+     * 복호화가 처음 필요할 때 생성 (키 유도 비용을 기동 시점에서 제외)
+     */
     @Bean("jasyptStringEncryptor")
+    @Lazy
     public StringEncryptor stringEncryptor() {
         PooledPBEStringEncryptor encryptor = new PooledPBEStringEncryptor();
         SimpleStringPBEConfig config = new SimpleStringPBEConfig();
@@ -77,6 +77,7 @@ public class SecurityConfig {
         config.setExposedHeaders(List.of(
                 "Authorization",
                 "Content-Disposition",
+                "ETag",
                 "X-Total-Count"
         ));
 
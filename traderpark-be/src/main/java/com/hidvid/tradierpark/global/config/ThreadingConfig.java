@@ -0,0 +1,50 @@
+package com.hidvid.tradierpark.global.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+
+/**
+ * 스레드 모드(spring.threads.virtual.enabled) 확인
+ *
+ * AOT 빌드(-Paot)는 요청 처리/작업 실행기 구성을 빌드 시점 값으로 고정하므로,
+ * 실행 시 값과 다르게 빌드된 jar는 기동을 중단한다.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public BuiltThreading virtualBuiltThreading() {
+        return new BuiltThreading(Threading.VIRTUAL);
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public BuiltThreading platformBuiltThreading() {
+        return new BuiltThreading(Threading.PLATFORM);
+    }
+
+    @Bean
+    @Lazy(false)
+    public SmartInitializingSingleton threadingCheck(BuiltThreading builtThreading, Environment environment) {
+        return () -> {
+            if (!builtThreading.threading().isActive(environment)) {
+                throw new IllegalStateException("spring.threads.virtual.enabled="
+                        + environment.getProperty("spring.threads.virtual.enabled")
+                        + " 이지만 빌드된 스레드 모드는 " + builtThreading.threading()
+                        + " - 같은 값으로 다시 빌드 필요 (-PvirtualThreads)");
+            }
+        };
+    }
+
+    /**
+     * 빈 구성 시점(AOT면 빌드 시점)에 적용된 스레드 모드
+     */
+    public record BuiltThreading(Threading threading) {
+    }
+}
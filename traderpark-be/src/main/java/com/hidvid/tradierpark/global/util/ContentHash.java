@@ -0,0 +1,49 @@
+package com.hidvid.tradierpark.global.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 내용 해시 (64bit FNV-1a) - ETag 생성용
+ *
+ * 사용법:
+ * new ContentHash().add(date).add(close).toHex()
+ */
+public class ContentHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long hash = FNV_OFFSET_BASIS;
+
+    public ContentHash add(String value) {
+        if (value == null) {
+            return addByte(0);
+        }
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            addByte(b);
+        }
+        // 필드 경계 구분 ("ab"+"c" != "a"+"bc")
+        return addByte(0x1f);
+    }
+
+    public ContentHash add(long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            addByte((int) (value >>> shift));
+        }
+        return this;
+    }
+
+    public ContentHash add(double value) {
+        return add(Double.doubleToLongBits(value));
+    }
+
+    public String toHex() {
+        return Long.toHexString(hash);
+    }
+
+    private ContentHash addByte(int b) {
+        hash ^= (b & 0xff);
+        hash *= FNV_PRIME;
+        return this;
+    }
+}
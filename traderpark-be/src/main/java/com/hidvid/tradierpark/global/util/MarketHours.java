@@ -0,0 +1,87 @@
+package com.hidvid.tradierpark.global.util;
+
+import org.springframework.http.CacheControl;
+
+import java.time.*;
+
+/**
+ * 국내 정규장 시간 (KST 평일 09:00 ~ 15:30) 및 시장 상태별 캐시 정책
+ */
+public final class MarketHours {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final LocalTime OPEN = LocalTime.of(9, 0);
+    private static final LocalTime CLOSE = LocalTime.of(15, 30);
+
+    private static final Duration PAST_DATE_MAX_AGE = Duration.ofHours(1);
+    private static final Duration CLOSED_MAX_AGE_LIMIT = Duration.ofHours(1);
+
+    private MarketHours() {
+    }
+
+    public static boolean isOpen(ZonedDateTime now) {
+        ZonedDateTime kst = now.withZoneSameInstant(KST);
+        return isTradingDay(kst.toLocalDate())
+                && !kst.toLocalTime().isBefore(OPEN)
+                && kst.toLocalTime().isBefore(CLOSE);
+    }
+
+    /**
+     * 기준일 조회 응답의 Cache-Control
+     * - 과거일: 1시간 캐시
+     * - 당일 장중: 매번 ETag 재검증 (no-cache)
+     * - 당일 장 마감 후/장 시작 전: 다음 개장까지(최대 1시간) 캐시
+     */
+    public static CacheControl cacheControl(LocalDate baseDate) {
+        return cacheControl(baseDate, ZonedDateTime.now(KST));
+    }
+
+    static CacheControl cacheControl(LocalDate baseDate, ZonedDateTime now) {
+        now = now.withZoneSameInstant(KST);
+
+        if (baseDate.isBefore(now.toLocalDate())) {
+            return CacheControl.maxAge(PAST_DATE_MAX_AGE).cachePrivate();
+        }
+        if (isOpen(now)) {
+            return CacheControl.noCache().cachePrivate();
+        }
+
+        Duration untilOpen = Duration.between(now, nextOpen(now));
+        Duration maxAge = untilOpen.compareTo(CLOSED_MAX_AGE_LIMIT) < 0 ? untilOpen : CLOSED_MAX_AGE_LIMIT;
+        return CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+    }
+
+    static ZonedDateTime nextOpen(ZonedDateTime now) {
+        now = now.withZoneSameInstant(KST);
+        LocalDate date = now.toLocalDate();
+        if (!now.toLocalTime().isBefore(OPEN)) {
+            date = date.plusDays(1);
+        }
+        while (!isTradingDay(date)) {
+            date = date.plusDays(1);
+        }
+        return ZonedDateTime.of(date, OPEN, KST);
+    }
+
+    /**
+     * now 이전의 가장 최근 장 마감 시각
+     */
+    public static ZonedDateTime lastClose(ZonedDateTime now) {
+        now = now.withZoneSameInstant(KST);
+        LocalDate date = now.toLocalDate();
+        if (now.toLocalTime().isBefore(CLOSE)) {
+            date = date.minusDays(1);
+        }
+        while (!isTradingDay(date)) {
+            date = date.minusDays(1);
+        }
+        return ZonedDateTime.of(date, CLOSE, KST);
+    }
+
+    // 공휴일은 반영하지 않음 (주말만 휴장 처리)
+    private static boolean isTradingDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY;
+    }
+}
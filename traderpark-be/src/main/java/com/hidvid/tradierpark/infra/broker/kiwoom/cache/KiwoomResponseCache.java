@@ -0,0 +1,115 @@
+package com.hidvid.tradierpark.infra.broker.kiwoom.cache;
+
+import com.hidvid.tradierpark.infra.cluster.config.ClusterProps;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 키움 API 응답 캐시 (TTL, 공유 저장소 기반)
+ *
+ * 같은 키를 동시에 조회하면 한 요청만 키움 API를 호출하고 나머지는 그 결과를 기다린다.
+ * 인스턴스 내에서는 Future로, 인스턴스 간에는 공유 저장소 잠금(lock:키)으로 중복 호출을 막는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KiwoomResponseCache {
+
+    private static final String LOCK_PREFIX = "lock:";
+    // 최악의 조회 시간(토큰 발급 + 일봉 조회, 각각 connect 5s + read 10s)보다 길게 유지
+    private static final Duration LOCK_TTL = Duration.ofSeconds(45);
+    private static final long PEER_POLL_MS = 100;
+
+    private final SharedStore sharedStore;
+    private final ClusterProps clusterProps;
+
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        Optional<T> cached = sharedStore.get(key, type);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return (T) join(inFlight);
+        }
+
+        try {
+            T value = loadOnce(key, type, ttl, loader);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    public void put(String key, Object value, Duration ttl) {
+        sharedStore.put(key, value, ttl);
+    }
+
+    public void evict(String key) {
+        sharedStore.delete(key);
+    }
+
+    /**
+     * 다른 인스턴스가 같은 키를 조회 중이면 그 결과가 저장될 때까지 기다리고,
+     * 잠금이 풀렸는데도 값이 없으면(상대 실패) 직접 조회한다.
+     */
+    private <T> T loadOnce(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        String lockKey = LOCK_PREFIX + key;
+        String owner = clusterProps.nodeId();
+
+        while (!sharedStore.tryAcquireLease(lockKey, owner, LOCK_TTL)) {
+            try {
+                Thread.sleep(PEER_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("키움 API 응답 대기 중단: " + key, e);
+            }
+
+            Optional<T> loaded = sharedStore.get(key, type);
+            if (loaded.isPresent()) {
+                return loaded.get();
+            }
+        }
+
+        try {
+            Optional<T> loaded = sharedStore.get(key, type);
+            if (loaded.isPresent()) {
+                return loaded.get();
+            }
+
+            T value = loader.get();
+            sharedStore.put(key, value, ttl);
+            return value;
+        } finally {
+            sharedStore.releaseLease(lockKey, owner);
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.hidvid.tradierpark.infra.broker.kiwoom.config;
+
+import org.jasypt.encryption.StringEncryptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키움 앱키/시크릿키 - 최초 토큰 발급 시점에 복호화
+ *
+ * kiwoom.app-key / kiwoom.secret-key는 Jasypt 자동 복호화 대상에서 제외되어(application.yaml
+ * jasypt.encryptor.property.filter) ENC(...) 그대로 바인딩된다. 기동 중에는 Encryptor 생성과
+ * 키 유도(PBE)를 하지 않고, 처음 사용할 때 한 번만 복호화해 보관한다.
+ */
+@Component
+public class KiwoomCredentials {
+
+    private static final String ENC_PREFIX = "ENC(";
+    private static final String ENC_SUFFIX = ")";
+
+    private final KiwoomConfig kiwoomConfig;
+    private final ObjectProvider<StringEncryptor> stringEncryptor;
+
+    private volatile String appKey;
+    private volatile String secretKey;
+
+    public KiwoomCredentials(
+            KiwoomConfig kiwoomConfig,
+            @Qualifier("jasyptStringEncryptor") ObjectProvider<StringEncryptor> stringEncryptor
+    ) {
+        this.kiwoomConfig = kiwoomConfig;
+        this.stringEncryptor = stringEncryptor;
+    }
+
+    public String getAppKey() {
+        String value = appKey;
+        if (value == null) {
+            value = decrypt(kiwoomConfig.getAppKey());
+            appKey = value;
+        }
+        return value;
+    }
+
+    public String getSecretKey() {
+        String value = secretKey;
+        if (value == null) {
+            value = decrypt(kiwoomConfig.getSecretKey());
+            secretKey = value;
+        }
+        return value;
+    }
+
+    private String decrypt(String value) {
+        if (value == null || !value.startsWith(ENC_PREFIX) || !value.endsWith(ENC_SUFFIX)) {
+            return value;
+        }
+        String encrypted = value.substring(ENC_PREFIX.length(), value.length() - ENC_SUFFIX.length());
+        return stringEncryptor.getObject().decrypt(encrypted);
+    }
+}
@@ -1,23 +1,55 @@
 package com.hidvid.tradierpark.infra.broker.kiwoom.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class KiwoomRestClientConfig {
 
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean
     public RestClient kiwoomRestClient(KiwoomConfig kiwoomConfig) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(10000);
-
         return RestClient.builder()
                 .baseUrl(kiwoomConfig.getApiUrl())
-                .requestFactory(factory)
+                .requestFactory(requestFactory(virtualThreadsEnabled))
                 .defaultHeader("Content-Type", "application/json;charset=UTF-8")
                 .build();
     }
+
+    /**
+     * 키움 API 호출용 RequestFactory
+     * - 가상 스레드 모드: JDK HttpClient (비동기 I/O, 응답 대기 중 캐리어 스레드 점유 없음)
+     * - 플랫폼 스레드 모드: 기존 HttpURLConnection 기반
+     */
+    public static ClientHttpRequestFactory requestFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(CONNECT_TIMEOUT)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(READ_TIMEOUT);
+            return factory;
+        }
+
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(CONNECT_TIMEOUT);
+        factory.setReadTimeout(READ_TIMEOUT);
+        return factory;
+    }
 }
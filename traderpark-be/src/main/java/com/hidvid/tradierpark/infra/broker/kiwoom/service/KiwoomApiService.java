@@ -1,19 +1,22 @@
 package com.hidvid.tradierpark.infra.broker.kiwoom.service;
 
-import com.hidvid.tradierpark.infra.broker.kiwoom.config.KiwoomConfig;
+import com.hidvid.tradierpark.global.util.MarketHours;
+import com.hidvid.tradierpark.infra.broker.kiwoom.cache.KiwoomResponseCache;
 import com.hidvid.tradierpark.infra.broker.kiwoom.dto.request.DailyBalanceRequest;
 import com.hidvid.tradierpark.infra.broker.kiwoom.dto.request.DailyChartRequest;
-import com.hidvid.tradierpark.infra.broker.kiwoom.dto.request.KiwoomTokenRequest;
 import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyBalanceResponse;
 import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyChartResponse;
-import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.KiwoomTokenResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -24,25 +27,41 @@ public class KiwoomApiService {
     private static final String API_ID_DAILY_CHART = "ka10081";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
-    private final RestClient kiwoomRestClient;
-    private final KiwoomConfig kiwoomConfig;
+    // 일봉차트 캐시 TTL (장중 / 장 마감 / 과거 기준일)
+    private static final Duration CHART_TTL_MARKET_OPEN = Duration.ofSeconds(5);
+    private static final Duration CHART_TTL_MARKET_CLOSED = Duration.ofMinutes(5);
+    private static final Duration CHART_TTL_PAST_DATE = Duration.ofHours(1);
+
+    // 일별잔고수익률 캐시 TTL - 계좌 데이터라 장 마감 후에도 짧게 유지 (인스턴스/재검증 요청 간 공유 목적)
+    private static final Duration BALANCE_TTL_MARKET_OPEN = Duration.ofSeconds(5);
+    private static final Duration BALANCE_TTL_MARKET_CLOSED = Duration.ofMinutes(1);
+    private static final Duration BALANCE_TTL_PAST_DATE = Duration.ofHours(1);
 
-    private String cachedToken;
-    private long tokenExpiryTime;
+    private final RestClient kiwoomRestClient;
+    private final KiwoomTokenProvider kiwoomTokenProvider;
+    private final KiwoomResponseCache kiwoomResponseCache;
 
+    /**
+     * 일별잔고수익률 조회 (캐시 우선, 시장 상태별 TTL)
+     */
     public DailyBalanceResponse getDailyBalance(LocalDate date) {
-        String accessToken = getAccessToken();
+        String cacheKey = "daily-balance:" + date.format(DATE_FORMATTER);
+        Duration ttl = cacheTtl(date, BALANCE_TTL_MARKET_OPEN, BALANCE_TTL_MARKET_CLOSED, BALANCE_TTL_PAST_DATE);
+        return kiwoomResponseCache.getOrLoad(cacheKey, DailyBalanceResponse.class, ttl, () -> fetchDailyBalance(date));
+    }
+
+    private DailyBalanceResponse fetchDailyBalance(LocalDate date) {
         String queryDate = date.format(DATE_FORMATTER);
 
         log.info("일별잔고수익률 조회 요청 - 날짜: {}", queryDate);
 
-        DailyBalanceResponse response = kiwoomRestClient.post()
+        DailyBalanceResponse response = withAccessToken(accessToken -> kiwoomRestClient.post()
                 .uri("/api/dostk/acnt")
                 .header("Authorization", "Bearer " + accessToken)
                 .header("api-id", API_ID_DAILY_BALANCE)
                 .body(DailyBalanceRequest.of(queryDate))
                 .retrieve()
-                .body(DailyBalanceResponse.class);
+                .body(DailyBalanceResponse.class));
 
         if (response == null || response.getReturnCode() != 0) {
             String errorMsg = response != null ? response.getReturnMsg() : "응답 없음";
@@ -56,19 +75,28 @@ public class KiwoomApiService {
         return response;
     }
 
+    /**
+     * 주식일봉차트 조회 (캐시 우선, 시장 상태별 TTL)
+     */
     public DailyChartResponse getDailyChart(String stockCode, LocalDate baseDate) {
-        String accessToken = getAccessToken();
+        String cacheKey = "daily-chart:" + stockCode + ":" + baseDate.format(DATE_FORMATTER);
+        Duration ttl = cacheTtl(baseDate, CHART_TTL_MARKET_OPEN, CHART_TTL_MARKET_CLOSED, CHART_TTL_PAST_DATE);
+        return kiwoomResponseCache.getOrLoad(cacheKey, DailyChartResponse.class, ttl,
+                () -> fetchDailyChart(stockCode, baseDate));
+    }
+
+    private DailyChartResponse fetchDailyChart(String stockCode, LocalDate baseDate) {
         String baseDateStr = baseDate.format(DATE_FORMATTER);
 
         log.info("주식일봉차트 조회 요청 - 종목: {}, 기준일: {}", stockCode, baseDateStr);
 
-        DailyChartResponse response = kiwoomRestClient.post()
+        DailyChartResponse response = withAccessToken(accessToken -> kiwoomRestClient.post()
                 .uri("/api/dostk/chart")
                 .header("Authorization", "Bearer " + accessToken)
                 .header("api-id", API_ID_DAILY_CHART)
                 .body(DailyChartRequest.of(stockCode, baseDateStr))
                 .retrieve()
-                .body(DailyChartResponse.class);
+                .body(DailyChartResponse.class));
 
         if (response == null || response.getReturnCode() != 0) {
             String errorMsg = response != null ? response.getReturnMsg() : "응답 없음";
@@ -82,29 +110,24 @@ public class KiwoomApiService {
         return response;
     }
 
-    private synchronized String getAccessToken() {
-        if (cachedToken != null && System.currentTimeMillis() < tokenExpiryTime) {
-            return cachedToken;
+    /**
+     * 토큰이 거부(401)되면 무효화 후 새 토큰으로 한 번 재시도
+     */
+    private <T> T withAccessToken(Function<String, T> call) {
+        String accessToken = kiwoomTokenProvider.getAccessToken();
+        try {
+            return call.apply(accessToken);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            kiwoomTokenProvider.invalidate(accessToken);
+            return call.apply(kiwoomTokenProvider.getAccessToken());
         }
+    }
 
-        log.info("키움 API 토큰 발급 요청");
-
-        KiwoomTokenResponse tokenResponse = kiwoomRestClient.post()
-                .uri("/oauth2/token")
-                .body(KiwoomTokenRequest.of(kiwoomConfig.getAppKey(), kiwoomConfig.getSecretKey()))
-                .retrieve()
-                .body(KiwoomTokenResponse.class);
-
-        if (tokenResponse == null || tokenResponse.getToken() == null) {
-            throw new RuntimeException("키움 API 토큰 발급 실패");
+    private static Duration cacheTtl(LocalDate baseDate, Duration marketOpen, Duration marketClosed, Duration pastDate) {
+        ZonedDateTime now = ZonedDateTime.now(MarketHours.KST);
+        if (baseDate.isBefore(now.toLocalDate())) {
+            return pastDate;
         }
-
-        cachedToken = tokenResponse.getToken();
-        Long expiresIn = tokenResponse.getExpiresIn();
-        tokenExpiryTime = System.currentTimeMillis() + (expiresIn != null ? expiresIn * 1000 : 3600000) - 60000;
-
-        log.info("키움 API 토큰 발급 성공");
-
-        return cachedToken;
+        return MarketHours.isOpen(now) ? marketOpen : marketClosed;
     }
 }
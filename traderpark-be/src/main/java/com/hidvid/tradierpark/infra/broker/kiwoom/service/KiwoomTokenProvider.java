@@ -0,0 +1,244 @@
+package com.hidvid.tradierpark.infra.broker.kiwoom.service;
+
+import com.hidvid.tradierpark.infra.broker.kiwoom.config.KiwoomCredentials;
+import com.hidvid.tradierpark.infra.broker.kiwoom.dto.request.KiwoomTokenRequest;
+import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.KiwoomTokenResponse;
+import com.hidvid.tradierpark.infra.cluster.service.LeaderElection;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키움 API 접근 토큰 관리
+ *
+ * 토큰은 공유 저장소에 보관되고, 발급/갱신은 리더 인스턴스만 수행한다.
+ * 새 토큰은 채널로 전파되어 모든 인스턴스가 즉시 교체한다 (재발급 시 이전 토큰은 폐기되므로).
+ * 리더가 아닌 인스턴스는 토큰이 없거나 거부되면 리더에 발급을 요청한 뒤 기다린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KiwoomTokenProvider {
+
+    private static final String TOKEN_KEY = "kiwoom:token";
+    private static final String TOKEN_ISSUED_CHANNEL = "kiwoom:token-issued";
+    static final String TOKEN_REQUEST_CHANNEL = "kiwoom:token-request";
+    private static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofMinutes(5);
+    private static final Duration FOLLOWER_WAIT = Duration.ofSeconds(5);
+    private static final long FOLLOWER_POLL_MS = 200;
+    private static final Duration FOLLOWER_RECHECK = Duration.ofSeconds(10);
+
+    private final RestClient kiwoomRestClient;
+    private final KiwoomCredentials kiwoomCredentials;
+    private final SharedStore sharedStore;
+    private final LeaderElection leaderElection;
+
+    // 토큰 조회/발급/무효화/선갱신이 같은 잠금을 공유 (발급 HTTP 호출 동안 다른 요청은 대기)
+    // JDK 24+(JEP 491)부터는 synchronized도 가상 스레드를 캐리어에 고정하지 않으므로 선택 이유는 명시적 잠금 범위뿐
+    private final ReentrantLock tokenLock = new ReentrantLock();
+
+    private volatile KiwoomToken cachedToken;
+    // 키움이 401로 거부한 토큰 - 공유 저장소에 남아 있어도 다시 쓰지 않는다
+    private volatile String rejectedToken;
+    // 팔로워가 갱신 구간의 토큰을 쓰는 동안 공유 저장소를 다시 읽을 수 있는 시각 (epoch ms)
+    private final AtomicLong nextRecheckAt = new AtomicLong();
+
+    // 발급 요청 수신은 KiwoomTokenRequestListener가 담당 (이 빈은 첫 키움 호출 시 생성될 수 있으므로)
+    @PostConstruct
+    void subscribe() {
+        sharedStore.subscribe(TOKEN_ISSUED_CHANNEL, KiwoomToken.class, this::accept);
+    }
+
+    public String getAccessToken() {
+        KiwoomToken token = cachedToken;
+        if (token != null && token.isFresh()) {
+            return token.token();
+        }
+        // 팔로워: 갱신 구간에 들어선 토큰도 만료 전이면 잠금 없이 사용하고,
+        // 리더의 새 토큰 확인(공유 저장소 조회)은 주기마다 한 요청만 수행
+        if (token != null && token.isValid() && !leaderElection.isLeader()) {
+            if (!claimRecheck()) {
+                return token.token();
+            }
+            KiwoomToken shared = sharedToken();
+            return (shared != null ? shared : token).token();
+        }
+
+        tokenLock.lock();
+        try {
+            token = cachedToken;
+            if (token != null && token.isFresh()) {
+                return token.token();
+            }
+
+            boolean leader = leaderElection.isLeader();
+            token = sharedToken();
+            // 갱신 시점이 지난 토큰: 리더는 재발급, 나머지는 리더의 갱신 전파 전까지 만료 전이면 그대로 사용
+            if (token != null && (token.isFresh() || !leader)) {
+                return token.token();
+            }
+            return leader ? issueToken().token() : awaitLeaderToken().token();
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    /**
+     * 키움이 토큰을 거부(401)했을 때 호출 - 다음 getAccessToken에서 재발급(리더) 또는 재발급 요청(그 외)
+     */
+    public void invalidate(String token) {
+        tokenLock.lock();
+        try {
+            rejectedToken = token;
+            KiwoomToken current = cachedToken;
+            if (current != null && current.token().equals(token)) {
+                cachedToken = null;
+            }
+        } finally {
+            tokenLock.unlock();
+        }
+        log.warn("키움 API 토큰 거부 - 재발급 대상으로 표시");
+    }
+
+    /**
+     * 리더: 만료 임박 토큰 선갱신 (한 번이라도 발급된 경우에만)
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.token-refresh-check:PT1M}")
+    public void refreshIfExpiring() {
+        KiwoomToken token = cachedToken;
+        if (token == null || !leaderElection.isLeader() || token.isFresh()) {
+            return;
+        }
+
+        tokenLock.lock();
+        try {
+            issueToken();
+        } catch (RuntimeException e) {
+            log.warn("키움 API 토큰 선갱신 실패 - msg: {}", e.getMessage());
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    void onTokenRequest(TokenRequest request) {
+        try {
+            if (request.rejectedToken() != null) {
+                invalidate(request.rejectedToken());
+            }
+            getAccessToken();
+        } catch (RuntimeException e) {
+            log.warn("키움 API 토큰 발급 요청 처리 실패 - 요청: {}, msg: {}", request.nodeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발급한 토큰 수신 - 더 늦게 만료되는 토큰만 반영 (메시지 순서 역전 대비)
+     */
+    private void accept(KiwoomToken token) {
+        KiwoomToken current = cachedToken;
+        if (token.token().equals(rejectedToken) || (current != null && current.expiresAt() >= token.expiresAt())) {
+            return;
+        }
+        cachedToken = token;
+    }
+
+    private boolean claimRecheck() {
+        long now = System.currentTimeMillis();
+        long next = nextRecheckAt.get();
+        return now >= next && nextRecheckAt.compareAndSet(next, now + FOLLOWER_RECHECK.toMillis());
+    }
+
+    private KiwoomToken sharedToken() {
+        KiwoomToken token = sharedStore.get(TOKEN_KEY, KiwoomToken.class)
+                .filter(KiwoomToken::isValid)
+                .filter(t -> !t.token().equals(rejectedToken))
+                .orElse(null);
+        if (token != null) {
+            cachedToken = token;
+        }
+        return token;
+    }
+
+    private KiwoomToken issueToken() {
+        log.info("키움 API 토큰 발급 요청");
+
+        KiwoomTokenResponse tokenResponse = kiwoomRestClient.post()
+                .uri("/oauth2/token")
+                .body(KiwoomTokenRequest.of(kiwoomCredentials.getAppKey(), kiwoomCredentials.getSecretKey()))
+                .retrieve()
+                .body(KiwoomTokenResponse.class);
+
+        if (tokenResponse == null || tokenResponse.getToken() == null) {
+            throw new RuntimeException("키움 API 토큰 발급 실패");
+        }
+
+        Long expiresIn = tokenResponse.getExpiresIn();
+        long expiresAt = System.currentTimeMillis() + (expiresIn != null ? expiresIn * 1000 : 3600000) - 60000;
+        KiwoomToken token = new KiwoomToken(tokenResponse.getToken(), expiresAt);
+
+        sharedStore.put(TOKEN_KEY, token, Duration.ofMillis(Math.max(expiresAt - System.currentTimeMillis(), 1000)));
+        cachedToken = token;
+        sharedStore.publish(TOKEN_ISSUED_CHANNEL, token);
+
+        log.info("키움 API 토큰 발급 성공");
+
+        return token;
+    }
+
+    private KiwoomToken awaitLeaderToken() {
+        sharedStore.publish(TOKEN_REQUEST_CHANNEL, new TokenRequest(leaderElection.getNodeId(), rejectedToken));
+
+        long deadline = System.currentTimeMillis() + FOLLOWER_WAIT.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(FOLLOWER_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            KiwoomToken token = cachedToken;
+            if (token == null || !token.isValid()) {
+                token = sharedToken();
+            }
+            if (token != null) {
+                return token;
+            }
+        }
+        throw new RuntimeException("키움 API 토큰 대기 시간 초과 (리더 인스턴스 토큰 미발급)");
+    }
+
+    /**
+     * @param token     접근 토큰
+     * @param expiresAt 만료 시각 (epoch ms, 1분 여유 반영)
+     */
+    public record KiwoomToken(String token, long expiresAt) {
+
+        boolean isValid() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+        /**
+         * 리더의 선갱신 시점 전까지만 로컬 사본을 그대로 사용
+         */
+        boolean isFresh() {
+            return System.currentTimeMillis() + REFRESH_BEFORE_EXPIRY.toMillis() < expiresAt;
+        }
+    }
+
+    /**
+     * 리더에 대한 토큰 발급 요청
+     *
+     * @param nodeId        요청 인스턴스
+     * @param rejectedToken 요청 인스턴스에서 거부된 토큰 (없으면 null)
+     */
+    record TokenRequest(String nodeId, String rejectedToken) { }
+}
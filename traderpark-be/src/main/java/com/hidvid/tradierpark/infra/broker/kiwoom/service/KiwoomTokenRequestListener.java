@@ -0,0 +1,35 @@
+package com.hidvid.tradierpark.infra.broker.kiwoom.service;
+
+import com.hidvid.tradierpark.infra.broker.kiwoom.service.KiwoomTokenProvider.TokenRequest;
+import com.hidvid.tradierpark.infra.cluster.service.LeaderElection;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스의 토큰 발급 요청 수신 (리더만 처리)
+ *
+ * startup 프로파일(지연 초기화)에서도 리더가 요청을 받을 수 있도록 이 빈만 즉시 생성하고,
+ * KiwoomTokenProvider와 키움 RestClient/자격증명은 실제 요청이 왔을 때 생성한다.
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class KiwoomTokenRequestListener {
+
+    private final SharedStore sharedStore;
+    private final LeaderElection leaderElection;
+    private final ObjectProvider<KiwoomTokenProvider> kiwoomTokenProvider;
+
+    @PostConstruct
+    void subscribe() {
+        sharedStore.subscribe(KiwoomTokenProvider.TOKEN_REQUEST_CHANNEL, TokenRequest.class, request -> {
+            if (leaderElection.isLeader()) {
+                kiwoomTokenProvider.getObject().onTokenRequest(request);
+            }
+        });
+    }
+}
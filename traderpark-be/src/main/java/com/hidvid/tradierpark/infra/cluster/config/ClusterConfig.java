@@ -0,0 +1,70 @@
+package com.hidvid.tradierpark.infra.cluster.config;
+
+import com.hidvid.tradierpark.infra.cluster.store.InMemorySharedStore;
+import com.hidvid.tradierpark.infra.cluster.store.RedisSharedStore;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import tools.jackson.databind.json.JsonMapper;
+
+@Configuration
+@EnableConfigurationProperties(ClusterProps.class)
+public class ClusterConfig {
+
+    /**
+     * 단일 인스턴스 (기본값)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.cluster.store", havingValue = "memory", matchIfMissing = true)
+    public SharedStore inMemorySharedStore() {
+        return new InMemorySharedStore();
+    }
+
+    /**
+     * 실행 설정과 실제 저장소 빈 일치 확인
+     * AOT 빌드(-Paot)는 위 조건을 빌드 시점 값으로 고정하므로, 다르게 빌드된 jar는 기동을 중단한다.
+     * (무시하고 뜨면 인스턴스마다 리더가 되어 각자 키움 토큰을 발급하고 서로의 토큰을 무효화함)
+     */
+    @Bean
+    @Lazy(false)
+    public SmartInitializingSingleton sharedStoreCheck(ClusterProps clusterProps, SharedStore sharedStore) {
+        return () -> {
+            String built = sharedStore instanceof RedisSharedStore ? "redis" : "memory";
+            if (!built.equalsIgnoreCase(clusterProps.store())) {
+                throw new IllegalStateException("app.cluster.store=" + clusterProps.store()
+                        + " 이지만 빌드된 저장소는 " + built + " - 같은 값으로 다시 빌드 필요 (-PclusterStore)");
+            }
+        };
+    }
+
+    /**
+     * 여러 인스턴스 - Redis로 캐시/토큰/리더 임대/메시지 공유
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "app.cluster.store", havingValue = "redis")
+    static class RedisStoreConfig {
+
+        @Bean
+        public RedisMessageListenerContainer sharedStoreListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public SharedStore redisSharedStore(
+                StringRedisTemplate stringRedisTemplate,
+                RedisMessageListenerContainer sharedStoreListenerContainer,
+                JsonMapper jsonMapper
+        ) {
+            return new RedisSharedStore(stringRedisTemplate, sharedStoreListenerContainer, jsonMapper);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.hidvid.tradierpark.infra.cluster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 클러스터 설정 프로퍼티
+ *
+ * @param store    공유 저장소 종류 (memory: 단일 인스턴스, redis: 여러 인스턴스 공유)
+ * @param nodeId   인스턴스 식별자 (미지정 시 임의 생성)
+ * @param leaseTtl 리더 임대 유지 시간 (갱신 주기보다 충분히 길게)
+ */
+@ConfigurationProperties(prefix = "app.cluster")
+public record ClusterProps(
+        String store,
+        String nodeId,
+        Duration leaseTtl
+) {
+
+    public ClusterProps {
+        if (store == null || store.isBlank()) {
+            store = "memory";
+        }
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = "node-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        if (leaseTtl == null) {
+            leaseTtl = Duration.ofSeconds(15);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hidvid.tradierpark.infra.cluster.service;
+
+import com.hidvid.tradierpark.infra.cluster.config.ClusterProps;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리더 선출 (공유 저장소 임대 기반)
+ *
+ * 리더 한 대만 키움 토큰 발급/갱신과 시세 수집(백그라운드 작업)을 맡고,
+ * 결과는 공유 저장소를 통해 나머지 인스턴스에 전파된다.
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderElection {
+
+    private static final String LEADER_KEY = "cluster:leader";
+
+    private final SharedStore sharedStore;
+    private final ClusterProps clusterProps;
+
+    private volatile Boolean leader;
+
+    public boolean isLeader() {
+        Boolean current = leader;
+        if (current == null) {
+            elect();
+            current = leader;
+        }
+        return current;
+    }
+
+    public String getNodeId() {
+        return clusterProps.nodeId();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.lease-renew-interval:PT5S}")
+    public void elect() {
+        boolean acquired;
+        try {
+            acquired = sharedStore.tryAcquireLease(LEADER_KEY, clusterProps.nodeId(), clusterProps.leaseTtl());
+        } catch (RuntimeException e) {
+            log.warn("리더 임대 갱신 실패 - node: {}, msg: {}", clusterProps.nodeId(), e.getMessage());
+            acquired = false;
+        }
+
+        if (!Boolean.valueOf(acquired).equals(leader)) {
+            log.info("리더 상태 변경 - node: {}, leader: {}", clusterProps.nodeId(), acquired);
+        }
+        leader = acquired;
+    }
+
+    @PreDestroy
+    public void release() {
+        if (Boolean.TRUE.equals(leader)) {
+            sharedStore.releaseLease(LEADER_KEY, clusterProps.nodeId());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.hidvid.tradierpark.infra.cluster.store;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 인스턴스용 공유 저장소 - 값은 직렬화 없이 참조로 보관, 메시지는 호출 스레드에서 바로 전달
+ */
+public class InMemorySharedStore implements SharedStore {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<Object>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired() || !type.isInstance(entry.value())) {
+            return Optional.empty();
+        }
+        return Optional.of(type.cast(entry.value()));
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        if (entries.size() >= PURGE_THRESHOLD) {
+            entries.values().removeIf(Entry::isExpired);
+        }
+        entries.put(key, new Entry(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void delete(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public boolean tryAcquireLease(String key, String owner, Duration ttl) {
+        Entry lease = new Entry(owner, System.currentTimeMillis() + ttl.toMillis());
+        Entry result = entries.compute(key, (k, current) ->
+                current == null || current.isExpired() || owner.equals(current.value()) ? lease : current);
+        return result == lease;
+    }
+
+    @Override
+    public void releaseLease(String key, String owner) {
+        entries.computeIfPresent(key, (k, current) -> owner.equals(current.value()) ? null : current);
+    }
+
+    @Override
+    public void publish(String channel, Object message) {
+        listeners.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public <T> void subscribe(String channel, Class<T> type, Consumer<T> listener) {
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>())
+                .add(message -> listener.accept(type.cast(message)));
+    }
+
+    private record Entry(Object value, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.hidvid.tradierpark.infra.cluster.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Redis 공유 저장소 - 값과 메시지는 JSON으로 직렬화
+ *
+ * 임대 획득은 SET NX, 갱신/해제는 소유자 확인과 PEXPIRE/DEL을 Lua 스크립트 하나로 원자 실행한다.
+ * (임대가 만료되어 다른 인스턴스가 가져간 뒤에는 이전 소유자가 갱신하거나 지울 수 없다)
+ */
+@Slf4j
+public class RedisSharedStore implements SharedStore {
+
+    private static final String KEY_PREFIX = "traderpark:";
+
+    private static final RedisScript<Long> RENEW_LEASE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JsonMapper jsonMapper;
+
+    public RedisSharedStore(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            JsonMapper jsonMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        return json == null ? Optional.empty() : Optional.of(jsonMapper.readValue(json, type));
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, jsonMapper.writeValueAsString(value), ttl);
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    @Override
+    public boolean tryAcquireLease(String key, String owner, Duration ttl) {
+        String leaseKey = KEY_PREFIX + key;
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, owner, ttl))) {
+            return true;
+        }
+        Long renewed = redisTemplate.execute(RENEW_LEASE, List.of(leaseKey), owner, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1;
+    }
+
+    @Override
+    public void releaseLease(String key, String owner) {
+        redisTemplate.execute(RELEASE_LEASE, List.of(KEY_PREFIX + key), owner);
+    }
+
+    @Override
+    public void publish(String channel, Object message) {
+        redisTemplate.convertAndSend(KEY_PREFIX + channel, jsonMapper.writeValueAsString(message));
+    }
+
+    @Override
+    public <T> void subscribe(String channel, Class<T> type, Consumer<T> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                String json = new String(message.getBody(), StandardCharsets.UTF_8);
+                listener.accept(jsonMapper.readValue(json, type));
+            } catch (RuntimeException e) {
+                log.warn("공유 메시지 처리 실패 - 채널: {}, msg: {}", channel, e.getMessage());
+            }
+        }, new ChannelTopic(KEY_PREFIX + channel));
+    }
+}
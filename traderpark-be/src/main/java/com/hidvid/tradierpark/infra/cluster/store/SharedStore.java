@@ -0,0 +1,50 @@
+package com.hidvid.tradierpark.infra.cluster.store;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 공유 저장소 (응답 캐시, 토큰, 리더 임대, 메시지 전파)
+ * - memory: 단일 인스턴스용 (InMemorySharedStore)
+ * - redis: 여러 인스턴스 공유 (RedisSharedStore)
+ */
+public interface SharedStore {
+
+    <T> Optional<T> get(String key, Class<T> type);
+
+    void put(String key, Object value, Duration ttl);
+
+    void delete(String key);
+
+    /**
+     * 임대(lease) 획득 또는 갱신 - 비어 있거나 이미 owner가 보유 중이면 true
+     */
+    boolean tryAcquireLease(String key, String owner, Duration ttl);
+
+    void releaseLease(String key, String owner);
+
+    void publish(String channel, Object message);
+
+    <T> void subscribe(String channel, Class<T> type, Consumer<T> listener);
+
+    /**
+     * 트랜잭션 안에서는 커밋 후 전파 (다른 인스턴스가 커밋 전 데이터를 읽지 않도록)
+     */
+    default void publishAfterCommit(String channel, Object message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(channel, message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(channel, message);
+            }
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.hidvid.tradierpark;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * startup 프로파일 기동 확인 - 키움 토큰/자격증명/Jasypt 빈은 첫 키움 호출 전까지 생성되지 않아야 함
+ */
+@SpringBootTest(properties = {
+		"spring.profiles.active=startup",
+		"spring.datasource.url=jdbc:h2:mem:startup-profile",
+		"app.watchlist.initial-delay=PT1H",
+		"app.alert.initial-delay=PT1H"
+})
+class StartupProfileTests {
+
+	private static final List<String> DEFERRED_BEANS =
+			List.of("kiwoomTokenProvider", "kiwoomCredentials", "jasyptStringEncryptor");
+
+	@Autowired
+	private ConfigurableListableBeanFactory beanFactory;
+
+	@Test
+	void brokerBeansAreNotCreatedOnRefresh() {
+		for (String name : DEFERRED_BEANS) {
+			assertTrue(beanFactory.containsBeanDefinition(name), name);
+			assertFalse(beanFactory.containsSingleton(name), name);
+		}
+	}
+
+}
@@ -0,0 +1,156 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.api.alert.dto.AlertEventDto;
+import com.hidvid.tradierpark.domain.alert.entity.AlertRule;
+import com.hidvid.tradierpark.domain.alert.entity.AlertType;
+import com.hidvid.tradierpark.domain.alert.repository.AlertRuleRepository;
+import com.hidvid.tradierpark.infra.cluster.store.InMemorySharedStore;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 규칙 로딩 → 틱 평가 → DB 비활성화(markTriggered) → 발송 이벤트 → 재기동 시 재로딩 흐름
+ * 비활성화되지 않은 규칙(이미 삭제됨 / 저장 실패)은 발송하지 않는다.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:alert-engine-test")
+class AlertEngineTest {
+
+    @Autowired
+    private AlertRuleRepository alertRuleRepository;
+
+    private final SharedStore sharedStore = new InMemorySharedStore();
+    private final List<AlertEventDto> fired = new ArrayList<>();
+
+    private AlertRule aboveRule;
+    private AlertRule belowRule;
+
+    @BeforeEach
+    void setUp() {
+        aboveRule = alertRuleRepository.save(AlertRule.builder()
+                .stockCode("005930")
+                .type(AlertType.PRICE_ABOVE)
+                .threshold(75_000)
+                .build());
+        belowRule = alertRuleRepository.save(AlertRule.builder()
+                .stockCode("000660")
+                .type(AlertType.PRICE_BELOW)
+                .threshold(180_000)
+                .build());
+        alertRuleRepository.flush();
+
+        sharedStore.subscribe(AlertEngine.FIRED_CHANNEL, AlertEventDto.class, fired::add);
+    }
+
+    @Test
+    void firedRuleIsDeactivatedAndNotReloaded() {
+        AlertEngine engine = newEngine();
+        assertEquals(Set.of("005930", "000660"), engine.getWatchedStockCodes());
+
+        engine.onTick(new StockTick("005930", 74_000, 0));
+        engine.onTick(new StockTick("005930", 75_500, 0));
+
+        assertEquals(1, fired.size());
+        assertEquals(aboveRule.getId(), fired.get(0).getRuleId());
+        assertEquals(75_500, fired.get(0).getPrice());
+
+        AlertRule triggered = alertRuleRepository.findById(aboveRule.getId()).orElseThrow();
+        assertFalse(triggered.isActive());
+        assertNotNull(triggered.getTriggeredAt());
+        AlertRule pending = alertRuleRepository.findById(belowRule.getId()).orElseThrow();
+        assertTrue(pending.isActive());
+        assertNull(pending.getTriggeredAt());
+
+        // 1회성 - 다시 돌파해도 재발송 없음
+        engine.onTick(new StockTick("005930", 74_000, 0));
+        engine.onTick(new StockTick("005930", 76_000, 0));
+        assertEquals(1, fired.size());
+        assertEquals(Set.of("000660"), engine.getWatchedStockCodes());
+
+        // 재기동 시 활성 규칙만 로딩
+        assertEquals(Set.of("000660"), newEngine().getWatchedStockCodes());
+    }
+
+    @Test
+    void deletedRuleStopsBeingEvaluated() {
+        AlertEngine engine = newEngine();
+
+        sharedStore.publish(AlertEngine.RULES_CHANNEL, AlertRuleChange.disarmed(belowRule));
+        engine.onTick(new StockTick("000660", 185_000, 0));
+        engine.onTick(new StockTick("000660", 170_000, 0));
+
+        assertTrue(fired.isEmpty());
+        assertEquals(Set.of("005930"), engine.getWatchedStockCodes());
+    }
+
+    @Test
+    void ruleAlreadyDeactivatedIsNotPublished() {
+        AlertEngine engine = newEngine();
+
+        // 채널 전파 전에 다른 경로로 삭제된 규칙
+        alertRuleRepository.deleteById(aboveRule.getId());
+        alertRuleRepository.flush();
+
+        engine.onTick(new StockTick("005930", 74_000, 0));
+        engine.onTick(new StockTick("005930", 75_500, 0));
+
+        assertTrue(fired.isEmpty());
+        assertEquals(Set.of("000660"), engine.getWatchedStockCodes());
+    }
+
+    @Test
+    void failedDeactivationKeepsRuleArmed() {
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        AlertRuleRepository failingOnce = (AlertRuleRepository) Proxy.newProxyInstance(
+                AlertRuleRepository.class.getClassLoader(),
+                new Class<?>[]{AlertRuleRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("markTriggered") && failNext.getAndSet(false)) {
+                        throw new IllegalStateException("DB 연결 실패");
+                    }
+                    try {
+                        return method.invoke(alertRuleRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        AlertEngine engine = new AlertEngine(failingOnce, new AlertNotifier(), sharedStore);
+        engine.loadRules();
+
+        engine.onTick(new StockTick("005930", 74_000, 0));
+        engine.onTick(new StockTick("005930", 75_500, 0));
+
+        // 저장 실패 - 발송 없이 인덱스와 DB 모두 활성 유지
+        assertTrue(fired.isEmpty());
+        assertEquals(Set.of("005930", "000660"), engine.getWatchedStockCodes());
+        assertTrue(alertRuleRepository.findById(aboveRule.getId()).orElseThrow().isActive());
+
+        // 다음 교차 때 정상 발송
+        engine.onTick(new StockTick("005930", 74_000, 0));
+        engine.onTick(new StockTick("005930", 75_500, 0));
+        assertEquals(1, fired.size());
+        assertEquals(aboveRule.getId(), fired.get(0).getRuleId());
+        assertFalse(alertRuleRepository.findById(aboveRule.getId()).orElseThrow().isActive());
+    }
+
+    private AlertEngine newEngine() {
+        AlertEngine engine = new AlertEngine(alertRuleRepository, new AlertNotifier(), sharedStore);
+        engine.loadRules();
+        return engine;
+    }
+}
@@ -0,0 +1,94 @@
+package com.hidvid.tradierpark.api.alert.service;
+
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto.ChartItemDto;
+import com.hidvid.tradierpark.domain.alert.entity.AlertType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SymbolAlertBookTest {
+
+    @Test
+    void priceRulesFireOnlyWhenCrossedAndOnlyOnce() {
+        SymbolAlertBook book = new SymbolAlertBook();
+        book.add(rule(1L, AlertType.PRICE_ABOVE, 10_000, 0));
+        book.add(rule(2L, AlertType.PRICE_ABOVE, 11_000, 0));
+        book.add(rule(3L, AlertType.PRICE_BELOW, 9_000, 0));
+
+        assertTrue(book.onTick(9_500, 0).isEmpty());
+        assertEquals(List.of(1L), firedIds(book.onTick(10_500, 0)));
+        assertTrue(book.onTick(10_800, 0).isEmpty());
+        assertEquals(List.of(3L), firedIds(book.onTick(8_900, 0)));
+        assertEquals(List.of(2L), firedIds(book.onTick(12_000, 0)));
+        assertTrue(book.isEmpty());
+    }
+
+    @Test
+    void priceRuleArmedOnWrongSideWaitsForCross() {
+        SymbolAlertBook book = new SymbolAlertBook();
+        book.add(rule(1L, AlertType.PRICE_ABOVE, 10_000, 0));
+        book.add(rule(2L, AlertType.PRICE_BELOW, 13_000, 0));
+
+        // 첫 틱은 기준가 - 이미 넘어 있어도 발송하지 않음
+        assertTrue(book.onTick(12_000, 0).isEmpty());
+        assertTrue(book.onTick(12_500, 0).isEmpty());
+        assertTrue(book.onTick(11_000, 0).isEmpty());
+
+        // 임계값 아래로 내려갔다가 다시 넘을 때만 발송
+        assertTrue(book.onTick(9_900, 0).isEmpty());
+        assertEquals(List.of(1L), firedIds(book.onTick(10_000, 0)));
+
+        assertTrue(book.onTick(13_500, 0).isEmpty());
+        assertEquals(List.of(2L), firedIds(book.onTick(12_900, 0)));
+        assertTrue(book.isEmpty());
+    }
+
+    @Test
+    void dropFromHighUsesLookbackHigh() {
+        SymbolAlertBook book = new SymbolAlertBook();
+        book.add(rule(1L, AlertType.DROP_FROM_HIGH, -10, 3));
+        book.add(rule(2L, AlertType.DROP_FROM_HIGH, -20, 3));
+        book.updateHistory(List.of(bar(9_500, 100), bar(9_800, 100), bar(10_000, 100), bar(50_000, 100)));
+
+        assertTrue(book.onTick(9_100, 0).isEmpty());
+
+        List<FiredAlert> fired = book.onTick(9_000, 0);
+        assertEquals(List.of(1L), firedIds(fired));
+        assertEquals(-10.0, fired.get(0).observed());
+
+        assertEquals(List.of(2L), firedIds(book.onTick(7_000, 0)));
+    }
+
+    @Test
+    void volumeSpikeComparesAgainstAverageExcludingToday() {
+        SymbolAlertBook book = new SymbolAlertBook();
+        book.add(rule(1L, AlertType.VOLUME_SPIKE, 3, 2));
+        book.updateHistory(List.of(bar(1_000, 999_999), bar(1_000, 100), bar(1_000, 300)));
+
+        assertTrue(book.onTick(1_000, 500).isEmpty());
+
+        List<FiredAlert> fired = book.onTick(1_000, 600);
+        assertEquals(List.of(1L), firedIds(fired));
+        assertEquals(3.0, fired.get(0).observed());
+    }
+
+    private static ArmedRule rule(long id, AlertType type, double threshold, int lookbackDays) {
+        return new ArmedRule(id, "005930", type, threshold, lookbackDays);
+    }
+
+    private static ChartItemDto bar(long high, long volume) {
+        return ChartItemDto.builder()
+                .date("20260105")
+                .high(high)
+                .close(high)
+                .volume(volume)
+                .build();
+    }
+
+    private static List<Long> firedIds(List<FiredAlert> fired) {
+        return fired.stream().map(alert -> alert.rule().id()).sorted().toList();
+    }
+}
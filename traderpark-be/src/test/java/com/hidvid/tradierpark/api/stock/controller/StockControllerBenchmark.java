@@ -0,0 +1,202 @@
+package com.hidvid.tradierpark.api.stock.controller;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 일봉 차트 API 동시 요청 처리량 벤치마크 (플랫폼 스레드 vs 가상 스레드)
+ *
+ * 애플리케이션을 실제 포트로 띄우고 로컬 스텁 서버가 키움 API 지연(STUB_LATENCY_MS)을 흉내낸다.
+ * HTTP 클라이언트가 /api/stocks/{code}/daily-chart를 동시에 REQUESTS건 호출해
+ * Tomcat 요청 처리 → KiwoomApiService → 키움 호출 전 구간을 측정한다.
+ * - Platform: spring.threads.virtual.enabled=false (Tomcat 기본 max-threads 200)
+ * - Virtual: spring.threads.virtual.enabled=true
+ *
+ * 실행: ./gradlew benchmark (결과: build/reports/benchmark/kiwoom-concurrency.txt)
+ */
+@Tag("benchmark")
+abstract class StockControllerBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long STUB_LATENCY_MS = 500;
+    private static final String BASE_DATE = "20260105";
+
+    private static final String TOKEN_BODY = "{\"token\":\"stub-token\",\"token_type\":\"bearer\",\"expires_in\":86400}";
+    private static final String CHART_BODY = "{\"return_code\":0,\"return_msg\":\"OK\",\"stk_cd\":\"005930\","
+            + "\"stk_dt_pole_chart_qry\":[{\"dt\":\"20260105\",\"open_pric\":\"71000\",\"high_pric\":\"72500\","
+            + "\"low_pric\":\"70800\",\"cur_prc\":\"72000\",\"trde_qty\":\"15000000\",\"trde_prica\":\"1080000\","
+            + "\"pred_pre\":\"+1200\",\"pred_pre_sig\":\"2\"}]}";
+
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+    private static final AtomicInteger PEAK_IN_FLIGHT = new AtomicInteger();
+    private static final HttpServer STUB = startStub();
+
+    @Autowired
+    private Environment environment;
+
+    @DynamicPropertySource
+    static void benchmarkProperties(DynamicPropertyRegistry registry) {
+        registry.add("kiwoom.api-url", () -> "http://127.0.0.1:" + STUB.getAddress().getPort());
+        // 평문 키는 복호화하지 않음
+        registry.add("kiwoom.app-key", () -> "stub-app-key");
+        registry.add("kiwoom.secret-key", () -> "stub-secret-key");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:benchmark");
+        // 백그라운드 수집이 스텁 호출 수에 섞이지 않도록 측정 중에는 시작하지 않음
+        registry.add("app.watchlist.initial-delay", () -> "PT1H");
+        registry.add("app.alert.initial-delay", () -> "PT1H");
+    }
+
+    @Test
+    void measureConcurrentRequests() throws Exception {
+        String mode = getClass().getSimpleName().toLowerCase();
+        String baseUrl = "http://127.0.0.1:" + environment.getProperty("local.server.port") + "/api/stocks/";
+
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            // 토큰 발급은 측정 대상에서 제외
+            assertEquals(200, get(client, baseUrl + "000000/daily-chart?date=" + BASE_DATE));
+            PEAK_IN_FLIGHT.set(0);
+
+            long start = System.nanoTime();
+            List<Future<Integer>> futures = new ArrayList<>(REQUESTS);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 1; i <= REQUESTS; i++) {
+                    // 종목코드를 모두 다르게 해 응답 캐시를 우회
+                    String url = baseUrl + String.format("%06d", i) + "/daily-chart?date=" + BASE_DATE;
+                    futures.add(executor.submit(() -> get(client, url)));
+                }
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            int succeeded = 0;
+            for (Future<Integer> future : futures) {
+                if (future.state() == Future.State.SUCCESS && future.resultNow() == 200) {
+                    succeeded++;
+                }
+            }
+
+            Result result = new Result(mode, succeeded, PEAK_IN_FLIGHT.get(), elapsedMs);
+            System.out.println(result);
+            writeReport(result);
+
+            assertEquals(REQUESTS, result.succeeded());
+            assertPeakInFlight(result.peakInFlight());
+        }
+    }
+
+    abstract void assertPeakInFlight(int peakInFlight);
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "spring.threads.virtual.enabled=false")
+    static class Platform extends StockControllerBenchmark {
+
+        @Override
+        void assertPeakInFlight(int peakInFlight) {
+            // 요청 스레드 풀 크기가 동시 키움 호출 수의 상한
+            assertTrue(peakInFlight <= TOMCAT_MAX_THREADS);
+        }
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "spring.threads.virtual.enabled=true")
+    static class Virtual extends StockControllerBenchmark {
+
+        @Override
+        void assertPeakInFlight(int peakInFlight) {
+            assertTrue(peakInFlight > TOMCAT_MAX_THREADS);
+        }
+    }
+
+    private static int get(HttpClient client, String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * gradle benchmark 태스크가 지정한 경로(build/reports/benchmark)에 모드별 결과를 이어서 기록
+     */
+    private static void writeReport(Result result) throws IOException {
+        String path = System.getProperty("benchmark.report");
+        if (path == null) {
+            return;
+        }
+        Path file = Path.of(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, result + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 8192);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/oauth2/token", exchange -> respond(exchange, TOKEN_BODY));
+            server.createContext("/api/dostk/chart", exchange -> {
+                int current = IN_FLIGHT.incrementAndGet();
+                PEAK_IN_FLIGHT.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(STUB_LATENCY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    IN_FLIGHT.decrementAndGet();
+                }
+                respond(exchange, CHART_BODY);
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private record Result(String mode, int succeeded, int peakInFlight, long elapsedMs) {
+        @Override
+        public String toString() {
+            double throughput = elapsedMs > 0 ? succeeded * 1000.0 / elapsedMs : 0;
+            return String.format("[%-8s] JDK %s, CPU %d코어, 요청 %d건, 스텁 지연 %dms - "
+                            + "성공 %d건, 최대 동시 처리 %d건, 소요 %dms, 처리량 %.1f req/s",
+                    mode, Runtime.version(), Runtime.getRuntime().availableProcessors(), REQUESTS, STUB_LATENCY_MS,
+                    succeeded, peakInFlight, elapsedMs, throughput);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hidvid.tradierpark.api.stock.controller;
+
+import com.hidvid.tradierpark.global.config.SecurityConfig;
+import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyChartResponse;
+import com.hidvid.tradierpark.infra.broker.kiwoom.service.KiwoomApiService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일봉 차트 조건부 요청 (ETag / If-None-Match / Cache-Control)
+ */
+@WebMvcTest(StockController.class)
+@Import(SecurityConfig.class)
+class StockControllerTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 5);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private KiwoomApiService kiwoomApiService;
+
+    @Test
+    void responseCarriesEtagAndCacheControl() throws Exception {
+        given(kiwoomApiService.getDailyChart("005930", BASE_DATE)).willReturn(chart(72_000));
+
+        // 과거 기준일 - 1시간 캐시
+        mockMvc.perform(get("/api/stocks/005930/daily-chart").param("date", "20260105"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("W/\"20260105-[0-9a-f]+\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, private"))
+                .andExpect(jsonPath("$.items[0].date").value("20260105"));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        given(kiwoomApiService.getDailyChart("005930", BASE_DATE)).willReturn(chart(72_000));
+        String etag = fetchEtag();
+
+        mockMvc.perform(get("/api/stocks/005930/daily-chart").param("date", "20260105")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void changedBarChangesEtag() throws Exception {
+        given(kiwoomApiService.getDailyChart("005930", BASE_DATE)).willReturn(chart(72_000));
+        String before = fetchEtag();
+
+        // 같은 날짜 봉의 종가가 바뀌면 새 ETag, 이전 ETag로 재검증해도 본문을 다시 받음
+        given(kiwoomApiService.getDailyChart("005930", BASE_DATE)).willReturn(chart(71_500));
+        String after = fetchEtag();
+        assertNotEquals(before, after);
+
+        mockMvc.perform(get("/api/stocks/005930/daily-chart").param("date", "20260105")
+                        .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, after))
+                .andExpect(jsonPath("$.items[0].close").value(71_500));
+    }
+
+    private String fetchEtag() throws Exception {
+        return mockMvc.perform(get("/api/stocks/005930/daily-chart").param("date", "20260105"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+
+    private static DailyChartResponse chart(long lastClose) {
+        return JSON_MAPPER.readValue("""
+                {"return_code":0,"stk_cd":"005930","stk_dt_pole_chart_qry":[
+                 {"dt":"20260105","high_pric":"72500","cur_prc":"%d"},
+                 {"dt":"20260102","high_pric":"75000","cur_prc":"74000"}]}
+                """.formatted(lastClose), DailyChartResponse.class);
+    }
+}
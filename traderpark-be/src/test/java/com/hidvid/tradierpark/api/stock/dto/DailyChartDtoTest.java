@@ -0,0 +1,58 @@
+package com.hidvid.tradierpark.api.stock.dto;
+
+import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyChartResponse;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DailyChartDtoTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    // 최신순: 0102 고가 100이 구간 최고가
+    private final DailyChartDto chart = chart(
+            bar("20260106", 93, 91),
+            bar("20260105", 92, 90),
+            bar("20260102", 100, 97));
+
+    @Test
+    void sinceIncludesBarOnSinceDate() {
+        DailyChartDto delta = chart.since(LocalDate.of(2026, 1, 5));
+
+        assertEquals(List.of("20260106", "20260105"),
+                delta.getItems().stream().map(DailyChartDto.ChartItemDto::getDate).toList());
+    }
+
+    @Test
+    void sinceAfterLastBarIsEmpty() {
+        assertTrue(chart.since(LocalDate.of(2026, 1, 7)).getItems().isEmpty());
+    }
+
+    @Test
+    void sinceKeepsFullWindowStats() {
+        DailyChartDto delta = chart.since(LocalDate.of(2026, 1, 6));
+
+        assertEquals(1, delta.getItems().size());
+        assertEquals(100, delta.getHighPrice());
+        assertEquals(91, delta.getCurrentPrice());
+        assertEquals(chart.getDropRate(), delta.getDropRate());
+        assertEquals(-9.0, delta.getDropRate());
+    }
+
+    private static DailyChartDto chart(String... bars) {
+        String json = "{\"return_code\":0,\"stk_cd\":\"005930\",\"stk_dt_pole_chart_qry\":["
+                + Stream.of(bars).collect(Collectors.joining(",")) + "]}";
+        return DailyChartDto.from(JSON_MAPPER.readValue(json, DailyChartResponse.class));
+    }
+
+    private static String bar(String date, long high, long close) {
+        return "{\"dt\":\"" + date + "\",\"high_pric\":\"" + high + "\",\"cur_prc\":\"" + close + "\"}";
+    }
+}
@@ -0,0 +1,103 @@
+package com.hidvid.tradierpark.api.watchlist.service;
+
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto;
+import com.hidvid.tradierpark.api.watchlist.dto.WatchlistRankDto;
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistGroup;
+import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyChartResponse;
+import com.hidvid.tradierpark.infra.cluster.config.ClusterProps;
+import com.hidvid.tradierpark.infra.cluster.service.LeaderElection;
+import com.hidvid.tradierpark.infra.cluster.store.InMemorySharedStore;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WatchlistLeaderboardTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    private WatchlistLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        SharedStore store = new InMemorySharedStore();
+        leaderboard = new WatchlistLeaderboard(store,
+                new LeaderElection(store, new ClusterProps("memory", "node-a", Duration.ofMinutes(1))));
+
+        WatchlistGroup group = WatchlistGroup.builder().name("대형주").sortOrder(0).build();
+        group.addItem("005930", "삼성전자");
+        group.addItem("000660", "SK하이닉스");
+        leaderboard.updateMembers(List.of(group));
+    }
+
+    @Test
+    void rankingMatchesChartWindowAcrossRefreshes() {
+        // 최신순: 0102 고가 100이 구간 최고가
+        DailyChartDto first = chart(
+                bar("20260105", 92, 90),
+                bar("20260102", 100, 97),
+                bar("20260101", 95, 94));
+        assertRankMatches(first, "20260105");
+
+        // 다음 조회: 0102/0101이 구간 밖으로 밀려남 - 최고가가 100에 남아 있으면 안 됨
+        DailyChartDto shifted = chart(
+                bar("20260106", 93, 91),
+                bar("20260105", 92, 90),
+                bar("20260103", 94, 92));
+        assertRankMatches(shifted, "20260106");
+
+        // 장중 마지막 봉 수정 (고가 갱신 후 하락)
+        DailyChartDto revised = chart(
+                bar("20260106", 96, 88),
+                bar("20260105", 92, 90),
+                bar("20260103", 94, 92));
+        assertRankMatches(revised, "20260106");
+    }
+
+    @Test
+    void unaggregatedMembersRankLast() {
+        Instant before = Instant.now();
+        leaderboard.apply("005930", chart(bar("20260105", 100, 80)));
+        leaderboard.refreshRanking();
+
+        List<WatchlistRankDto> ranking = leaderboard.getRanking();
+        assertEquals(List.of("005930", "000660"), ranking.stream().map(WatchlistRankDto::getStockCode).toList());
+        assertNull(ranking.get(1).getLastBarDate());
+
+        assertTrue(leaderboard.isRefreshedSince("005930", before));
+        assertFalse(leaderboard.isRefreshedSince("000660", before));
+    }
+
+    private void assertRankMatches(DailyChartDto chart, String lastBarDate) {
+        leaderboard.apply("005930", chart);
+        leaderboard.refreshRanking();
+
+        WatchlistRankDto rank = leaderboard.getRanking().get(0);
+        assertEquals("005930", rank.getStockCode());
+        assertEquals(chart.getHighPrice(), rank.getHighPrice());
+        assertEquals(chart.getCurrentPrice(), rank.getCurrentPrice());
+        assertEquals(chart.getDropRate(), rank.getDropRate());
+        assertEquals(lastBarDate, rank.getLastBarDate());
+    }
+
+    private static DailyChartDto chart(String... bars) {
+        String json = "{\"return_code\":0,\"stk_cd\":\"005930\",\"stk_dt_pole_chart_qry\":["
+                + Stream.of(bars).collect(Collectors.joining(",")) + "]}";
+        return DailyChartDto.from(JSON_MAPPER.readValue(json, DailyChartResponse.class));
+    }
+
+    private static String bar(String date, long high, long close) {
+        return "{\"dt\":\"" + date + "\",\"high_pric\":\"" + high + "\",\"cur_prc\":\"" + close + "\"}";
+    }
+}
@@ -0,0 +1,65 @@
+package com.hidvid.tradierpark.api.watchlist.service;
+
+import com.hidvid.tradierpark.api.stock.dto.DailyChartDto;
+import com.hidvid.tradierpark.api.watchlist.dto.WatchlistRankDto;
+import com.hidvid.tradierpark.domain.watchlist.entity.WatchlistGroup;
+import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyChartResponse;
+import com.hidvid.tradierpark.infra.broker.kiwoom.service.KiwoomApiService;
+import com.hidvid.tradierpark.infra.cluster.config.ClusterProps;
+import com.hidvid.tradierpark.infra.cluster.service.LeaderElection;
+import com.hidvid.tradierpark.infra.cluster.store.InMemorySharedStore;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WatchlistRefreshJobTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    @Test
+    void followerStillReadsRankingAfterRunWithoutUpdates() {
+        SharedStore store = new InMemorySharedStore();
+        LeaderElection leader = node(store, "node-a");
+        LeaderElection follower = node(store, "node-b");
+        assertTrue(leader.isLeader());
+        assertFalse(follower.isLeader());
+
+        WatchlistGroup group = WatchlistGroup.builder().name("대형주").sortOrder(0).build();
+        group.addItem("005930", "삼성전자");
+
+        WatchlistLeaderboard leaderBoard = new WatchlistLeaderboard(store, leader);
+        leaderBoard.updateMembers(List.of(group));
+        leaderBoard.apply("005930", DailyChartDto.from(JSON_MAPPER.readValue("""
+                {"return_code":0,"stk_cd":"005930","stk_dt_pole_chart_qry":[
+                 {"dt":"20260105","high_pric":"100","cur_prc":"80"}]}
+                """, DailyChartResponse.class)));
+        leaderBoard.refreshRanking();
+
+        // 마지막 집계 이후 TTL이 지나 스냅샷 만료
+        store.delete("watchlist:ranking");
+
+        // 이번 주기에 갱신된 종목 없음 (키움 조회 불가)
+        WatchlistRefreshJob job = new WatchlistRefreshJob(
+                new StaticListableBeanFactory().getBeanProvider(KiwoomApiService.class), leaderBoard, leader);
+        job.refresh();
+
+        // 팔로워는 로컬 집계가 없으므로 공유 스냅샷을 읽어야 집계 결과가 보임
+        WatchlistRankDto rank = new WatchlistLeaderboard(store, follower).getRanking().get(0);
+        assertEquals("005930", rank.getStockCode());
+        assertEquals(100, rank.getHighPrice());
+        assertEquals(-20.0, rank.getDropRate());
+        assertEquals("20260105", rank.getLastBarDate());
+    }
+
+    private static LeaderElection node(SharedStore store, String nodeId) {
+        return new LeaderElection(store, new ClusterProps("memory", nodeId, Duration.ofMinutes(1)));
+    }
+}
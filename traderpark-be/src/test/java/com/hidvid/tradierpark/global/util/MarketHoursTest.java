@@ -0,0 +1,69 @@
+package com.hidvid.tradierpark.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MarketHoursTest {
+
+    // 2026-01-05 월요일, 2026-01-09 금요일
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+    private static final LocalDate FRIDAY = LocalDate.of(2026, 1, 9);
+
+    @Test
+    void nextOpenSkipsToFollowingTradingDay() {
+        assertEquals(kst(MONDAY, 9, 0), MarketHours.nextOpen(kst(MONDAY, 8, 30)));
+        assertEquals(kst(MONDAY.plusDays(1), 9, 0), MarketHours.nextOpen(kst(MONDAY, 9, 0)));
+        assertEquals(kst(MONDAY.plusDays(1), 9, 0), MarketHours.nextOpen(kst(MONDAY, 16, 0)));
+        assertEquals(kst(FRIDAY.plusDays(3), 9, 0), MarketHours.nextOpen(kst(FRIDAY, 16, 0)));
+        assertEquals(kst(FRIDAY.plusDays(3), 9, 0), MarketHours.nextOpen(kst(FRIDAY.plusDays(1), 10, 0)));
+    }
+
+    @Test
+    void nextOpenUsesKstRegardlessOfCallerZone() {
+        // UTC 2026-01-04 23:30 = KST 2026-01-05 08:30
+        ZonedDateTime utc = ZonedDateTime.of(MONDAY.minusDays(1).atTime(23, 30), ZoneOffset.UTC);
+        assertEquals(kst(MONDAY, 9, 0), MarketHours.nextOpen(utc));
+    }
+
+    @Test
+    void lastCloseIsMostRecentTradingDayClose() {
+        assertEquals(kst(MONDAY, 15, 30), MarketHours.lastClose(kst(MONDAY, 15, 30)));
+        assertEquals(kst(MONDAY, 15, 30), MarketHours.lastClose(kst(MONDAY, 20, 0)));
+        assertEquals(kst(FRIDAY, 15, 30), MarketHours.lastClose(kst(MONDAY.plusDays(7), 8, 0)));
+        assertEquals(kst(FRIDAY, 15, 30), MarketHours.lastClose(kst(FRIDAY.plusDays(1), 12, 0)));
+    }
+
+    @Test
+    void cacheControlByMarketState() {
+        assertEquals("max-age=3600, private",
+                MarketHours.cacheControl(MONDAY.minusDays(1), kst(MONDAY, 10, 0)).getHeaderValue());
+        assertEquals("no-cache, private",
+                MarketHours.cacheControl(MONDAY, kst(MONDAY, 10, 0)).getHeaderValue());
+        // 장 시작 30분 전: 개장 시각까지만 캐시
+        assertEquals("max-age=1800, must-revalidate, private",
+                MarketHours.cacheControl(MONDAY, kst(MONDAY, 8, 30)).getHeaderValue());
+        // 장 마감 후: 최대 1시간
+        assertEquals("max-age=3600, must-revalidate, private",
+                MarketHours.cacheControl(MONDAY, kst(MONDAY, 16, 0)).getHeaderValue());
+    }
+
+    @Test
+    void todayInKstIsNotTreatedAsPastDateOnUtcHost() {
+        // UTC 서버의 08:30 KST(전날 23:30 UTC): KST 기준 당일 조회는 개장 전 캐시 정책
+        ZonedDateTime utc = ZonedDateTime.of(MONDAY.minusDays(1).atTime(23, 30), ZoneOffset.UTC);
+        LocalDate today = utc.withZoneSameInstant(MarketHours.KST).toLocalDate();
+
+        assertEquals(MONDAY, today);
+        assertEquals("max-age=1800, must-revalidate, private",
+                MarketHours.cacheControl(today, utc).getHeaderValue());
+    }
+
+    private static ZonedDateTime kst(LocalDate date, int hour, int minute) {
+        return ZonedDateTime.of(date.atTime(hour, minute), MarketHours.KST);
+    }
+}
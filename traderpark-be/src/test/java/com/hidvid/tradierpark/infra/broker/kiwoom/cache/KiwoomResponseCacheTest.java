@@ -0,0 +1,76 @@
+package com.hidvid.tradierpark.infra.broker.kiwoom.cache;
+
+import com.hidvid.tradierpark.infra.cluster.config.ClusterProps;
+import com.hidvid.tradierpark.infra.cluster.store.InMemorySharedStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KiwoomResponseCacheTest {
+
+    private final KiwoomResponseCache cache = new KiwoomResponseCache(
+            new InMemorySharedStore(), new ClusterProps("memory", "node-a", Duration.ofMinutes(1)));
+
+    @Test
+    void concurrentMissesCallLoaderOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = IntStream.range(0, 50)
+                    .mapToObj(i -> executor.submit(() -> cache.getOrLoad("daily-chart:005930:20260105", String.class,
+                            Duration.ofMinutes(1), () -> {
+                                calls.incrementAndGet();
+                                await(release);
+                                return "chart";
+                            })))
+                    .toList();
+
+            // 나머지 요청이 진행 중인 조회에 합류할 시간을 준 뒤 응답
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("chart", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void nextCallerRetriesAfterLoaderFailure() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> cache.getOrLoad("daily-chart:005930:20260105", String.class,
+                Duration.ofMinutes(1), () -> {
+                    calls.incrementAndGet();
+                    throw new RuntimeException("키움 API 오류: 일시 장애");
+                }));
+
+        String value = cache.getOrLoad("daily-chart:005930:20260105", String.class, Duration.ofMinutes(1), () -> {
+            calls.incrementAndGet();
+            return "chart";
+        });
+        assertEquals("chart", value);
+        assertEquals(2, calls.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
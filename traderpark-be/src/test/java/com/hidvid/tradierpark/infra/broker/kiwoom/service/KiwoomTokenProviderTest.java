@@ -0,0 +1,142 @@
+package com.hidvid.tradierpark.infra.broker.kiwoom.service;
+
+import com.hidvid.tradierpark.infra.broker.kiwoom.config.KiwoomConfig;
+import com.hidvid.tradierpark.infra.broker.kiwoom.config.KiwoomCredentials;
+import com.hidvid.tradierpark.infra.cluster.config.ClusterProps;
+import com.hidvid.tradierpark.infra.cluster.service.LeaderElection;
+import com.hidvid.tradierpark.infra.cluster.store.InMemorySharedStore;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 리더(node-a)만 토큰을 발급하고, 팔로워(node-b)는 전파된 토큰을 사용하는지 확인
+ */
+class KiwoomTokenProviderTest {
+
+    private final AtomicInteger tokenReads = new AtomicInteger();
+
+    private MockRestServiceServer leaderServer;
+    private MockRestServiceServer followerServer;
+    private KiwoomTokenProvider leader;
+    private KiwoomTokenProvider follower;
+
+    @BeforeEach
+    void setUp() {
+        SharedStore store = new InMemorySharedStore() {
+            @Override
+            public <T> Optional<T> get(String key, Class<T> type) {
+                if (key.equals("kiwoom:token")) {
+                    tokenReads.incrementAndGet();
+                }
+                return super.get(key, type);
+            }
+        };
+        LeaderElection leaderElection = new LeaderElection(store, new ClusterProps("memory", "node-a", Duration.ofMinutes(1)));
+        LeaderElection followerElection = new LeaderElection(store, new ClusterProps("memory", "node-b", Duration.ofMinutes(1)));
+        leaderElection.elect();
+        followerElection.elect();
+
+        RestClient.Builder leaderBuilder = RestClient.builder().baseUrl("http://kiwoom.test");
+        leaderServer = MockRestServiceServer.bindTo(leaderBuilder).build();
+        RestClient.Builder followerBuilder = RestClient.builder().baseUrl("http://kiwoom.test");
+        followerServer = MockRestServiceServer.bindTo(followerBuilder).build();
+
+        leader = new KiwoomTokenProvider(leaderBuilder.build(), credentials(), store, leaderElection);
+        follower = new KiwoomTokenProvider(followerBuilder.build(), credentials(), store, followerElection);
+        leader.subscribe();
+        follower.subscribe();
+
+        StaticListableBeanFactory leaderBeans = new StaticListableBeanFactory();
+        leaderBeans.addBean("kiwoomTokenProvider", leader);
+        new KiwoomTokenRequestListener(store, leaderElection, leaderBeans.getBeanProvider(KiwoomTokenProvider.class))
+                .subscribe();
+    }
+
+    @Test
+    void followerSwitchesToRefreshedTokenImmediately() {
+        // 만료 5분 전 구간에 바로 들어가는 토큰 (330초 - 여유 60초)
+        expectToken("token-1", 330);
+        expectToken("token-2", 86400);
+
+        assertEquals("token-1", leader.getAccessToken());
+        assertEquals("token-1", follower.getAccessToken());
+
+        leader.refreshIfExpiring();
+
+        assertEquals("token-2", follower.getAccessToken());
+        assertEquals("token-2", leader.getAccessToken());
+        leaderServer.verify();
+        followerServer.verify();
+    }
+
+    @Test
+    void followerUsesExpiringTokenWithoutContention() throws Exception {
+        expectToken("token-1", 330);
+        assertEquals("token-1", leader.getAccessToken());
+
+        // 리더 선갱신 전: 팔로워 요청은 잠금 없이 기존 토큰을 쓰고 공유 저장소는 주기당 한 번만 조회
+        tokenReads.set(0);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = IntStream.range(0, 200)
+                    .mapToObj(i -> executor.submit(follower::getAccessToken))
+                    .toList();
+            for (Future<String> result : results) {
+                assertEquals("token-1", result.get());
+            }
+        }
+        assertTrue(tokenReads.get() <= 1);
+        leaderServer.verify();
+        followerServer.verify();
+    }
+
+    @Test
+    void rejectedTokenIsReissuedByLeader() {
+        expectToken("token-1", 86400);
+        expectToken("token-2", 86400);
+
+        assertEquals("token-1", follower.getAccessToken());
+
+        // 팔로워에서 401 → 리더가 재발급, 팔로워는 발급 호출 없이 새 토큰 사용
+        follower.invalidate("token-1");
+        assertEquals("token-2", follower.getAccessToken());
+        assertEquals("token-2", leader.getAccessToken());
+        leaderServer.verify();
+        followerServer.verify();
+    }
+
+    private void expectToken(String token, long expiresIn) {
+        leaderServer.expect(requestTo("http://kiwoom.test/oauth2/token"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess(
+                        "{\"token\":\"" + token + "\",\"token_type\":\"bearer\",\"expires_in\":" + expiresIn + "}",
+                        MediaType.APPLICATION_JSON));
+    }
+
+    private static KiwoomCredentials credentials() {
+        KiwoomConfig config = new KiwoomConfig();
+        config.setAppKey("stub-app-key");
+        config.setSecretKey("stub-secret-key");
+        return new KiwoomCredentials(config, null);
+    }
+}
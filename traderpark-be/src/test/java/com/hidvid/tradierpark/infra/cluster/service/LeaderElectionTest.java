@@ -0,0 +1,55 @@
+package com.hidvid.tradierpark.infra.cluster.service;
+
+import com.hidvid.tradierpark.infra.cluster.config.ClusterProps;
+import com.hidvid.tradierpark.infra.cluster.store.InMemorySharedStore;
+import com.hidvid.tradierpark.infra.cluster.store.SharedStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderElectionTest {
+
+    @Test
+    void onlyOneNodeLeadsUntilLeaseReleased() {
+        SharedStore store = new InMemorySharedStore();
+        LeaderElection first = node(store, "node-a", Duration.ofMinutes(1));
+        LeaderElection second = node(store, "node-b", Duration.ofMinutes(1));
+
+        assertTrue(first.isLeader());
+        assertFalse(second.isLeader());
+
+        // 갱신해도 리더 유지
+        first.elect();
+        second.elect();
+        assertTrue(first.isLeader());
+        assertFalse(second.isLeader());
+
+        first.release();
+        second.elect();
+        assertTrue(second.isLeader());
+    }
+
+    @Test
+    void expiredLeaseIsTakenOver() throws InterruptedException {
+        SharedStore store = new InMemorySharedStore();
+        LeaderElection first = node(store, "node-a", Duration.ofMillis(50));
+        LeaderElection second = node(store, "node-b", Duration.ofMillis(50));
+
+        assertTrue(first.isLeader());
+        assertFalse(second.isLeader());
+
+        // 리더가 갱신하지 못한 채 임대 만료
+        Thread.sleep(100);
+        second.elect();
+        first.elect();
+        assertTrue(second.isLeader());
+        assertFalse(first.isLeader());
+    }
+
+    private static LeaderElection node(SharedStore store, String nodeId, Duration leaseTtl) {
+        return new LeaderElection(store, new ClusterProps("memory", nodeId, leaseTtl));
+    }
+}
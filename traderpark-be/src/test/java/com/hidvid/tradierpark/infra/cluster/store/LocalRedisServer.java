@@ -0,0 +1,290 @@
+package com.hidvid.tradierpark.infra.cluster.store;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 테스트용 Redis 호환 서버 (RESP2, 단일 프로세스)
+ *
+ * RedisSharedStore의 값 저장/메시지 경로가 쓰는 명령만 지원한다: GET, SET(NX/XX/EX/PX), SETEX, PSETEX, DEL, PUBLISH, SUBSCRIBE.
+ * Lua(EVAL)는 지원하지 않으므로 임대 갱신/해제 스크립트는 실제 Redis 테스트(RedisLeaseTest)에서 검증한다.
+ * 키 만료는 조회 시점에 확인한다.
+ */
+class LocalRedisServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Value> values = new HashMap<>();
+    private final Map<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+    LocalRedisServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofVirtual().start(this::acceptLoop);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                sockets.add(socket);
+                Thread.ofVirtual().start(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        Connection connection = null;
+        try (socket) {
+            connection = new Connection(new BufferedOutputStream(socket.getOutputStream()));
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            while (true) {
+                List<String> command = readCommand(in);
+                if (!command.isEmpty()) {
+                    handle(connection, command);
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트 종료
+        } finally {
+            Connection closed = connection;
+            subscribers.values().forEach(set -> set.remove(closed));
+            sockets.remove(socket);
+        }
+    }
+
+    private void handle(Connection connection, List<String> command) throws IOException {
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        List<String> args = command.subList(1, command.size());
+
+        if (connection.subscribed && !name.equals("SUBSCRIBE") && !name.equals("UNSUBSCRIBE") && !name.equals("PING")) {
+            connection.error("ERR only (UN)SUBSCRIBE / PING allowed in this context");
+            return;
+        }
+
+        switch (name) {
+            case "PING" -> {
+                if (connection.subscribed) {
+                    connection.array("pong", "");
+                } else {
+                    connection.simple("PONG");
+                }
+            }
+            case "CLIENT", "SELECT" -> connection.simple("OK");
+            case "GET" -> connection.bulk(get(args.get(0)));
+            case "SET" -> set(connection, args);
+            case "SETEX" -> {
+                put(args.get(0), args.get(2), Long.parseLong(args.get(1)) * 1000);
+                connection.simple("OK");
+            }
+            case "PSETEX" -> {
+                put(args.get(0), args.get(2), Long.parseLong(args.get(1)));
+                connection.simple("OK");
+            }
+            case "DEL" -> connection.integer(delete(args));
+            case "PUBLISH" -> connection.integer(publish(args.get(0), args.get(1)));
+            case "SUBSCRIBE" -> subscribe(connection, args);
+            case "UNSUBSCRIBE" -> unsubscribe(connection, args);
+            default -> connection.error("ERR unknown command '" + command.get(0) + "'");
+        }
+    }
+
+    private synchronized String get(String key) {
+        Value value = values.get(key);
+        if (value != null && value.isExpired()) {
+            values.remove(key);
+            return null;
+        }
+        return value != null ? value.data() : null;
+    }
+
+    private synchronized void put(String key, String data, long ttlMillis) {
+        values.put(key, new Value(data, ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE));
+    }
+
+    private synchronized void set(Connection connection, List<String> args) throws IOException {
+        String key = args.get(0);
+        long ttlMillis = 0;
+        boolean nx = false;
+        boolean xx = false;
+        for (int i = 2; i < args.size(); i++) {
+            switch (args.get(i).toUpperCase(Locale.ROOT)) {
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                case "EX" -> ttlMillis = Long.parseLong(args.get(++i)) * 1000;
+                case "PX" -> ttlMillis = Long.parseLong(args.get(++i));
+                default -> {
+                    connection.error("ERR syntax error");
+                    return;
+                }
+            }
+        }
+
+        boolean exists = get(key) != null;
+        if ((nx && exists) || (xx && !exists)) {
+            connection.bulk(null);
+            return;
+        }
+        put(key, args.get(1), ttlMillis);
+        connection.simple("OK");
+    }
+
+    private synchronized long delete(List<String> keys) {
+        long deleted = 0;
+        for (String key : keys) {
+            if (get(key) != null) {
+                values.remove(key);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private long publish(String channel, String message) {
+        Set<Connection> targets = subscribers.getOrDefault(channel, Set.of());
+        for (Connection target : targets) {
+            try {
+                target.array("message", channel, message);
+            } catch (IOException e) {
+                targets.remove(target);
+            }
+        }
+        return targets.size();
+    }
+
+    private void subscribe(Connection connection, List<String> channels) throws IOException {
+        connection.subscribed = true;
+        for (String channel : channels) {
+            subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArraySet<>()).add(connection);
+            connection.channels.add(channel);
+            connection.subscription("subscribe", channel);
+        }
+    }
+
+    private void unsubscribe(Connection connection, List<String> channels) throws IOException {
+        List<String> targets = channels.isEmpty() ? List.copyOf(connection.channels) : channels;
+        for (String channel : targets) {
+            subscribers.getOrDefault(channel, Set.of()).remove(connection);
+            connection.channels.remove(channel);
+            connection.subscription("unsubscribe", channel);
+        }
+        connection.subscribed = !connection.channels.isEmpty();
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header.isEmpty() || header.charAt(0) != '*') {
+            return header.isBlank() ? List.of() : List.of(header.trim().split("\\s+"));
+        }
+
+        int count = Integer.parseInt(header.substring(1));
+        List<String> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] data = in.readNBytes(length);
+            in.readNBytes(2);
+            parts.add(new String(data, StandardCharsets.UTF_8));
+        }
+        return parts;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b == -1) {
+                throw new EOFException();
+            }
+            line.append((char) b);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private record Value(String data, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+
+    private static final class Connection {
+
+        private final OutputStream out;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+        private volatile boolean subscribed;
+
+        Connection(OutputStream out) {
+            this.out = out;
+        }
+
+        void simple(String value) throws IOException {
+            write("+" + value + "\r\n");
+        }
+
+        void error(String message) throws IOException {
+            write("-" + message + "\r\n");
+        }
+
+        void integer(long value) throws IOException {
+            write(":" + value + "\r\n");
+        }
+
+        void bulk(String value) throws IOException {
+            write(bulkOf(value));
+        }
+
+        void array(String... items) throws IOException {
+            StringBuilder reply = new StringBuilder("*").append(items.length).append("\r\n");
+            for (String item : items) {
+                reply.append(bulkOf(item));
+            }
+            write(reply.toString());
+        }
+
+        void subscription(String kind, String channel) throws IOException {
+            write("*3\r\n" + bulkOf(kind) + bulkOf(channel) + ":" + channels.size() + "\r\n");
+        }
+
+        private static String bulkOf(String value) {
+            if (value == null) {
+                return "$-1\r\n";
+            }
+            return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+        }
+
+        private synchronized void write(String reply) throws IOException {
+            out.write(reply.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+}
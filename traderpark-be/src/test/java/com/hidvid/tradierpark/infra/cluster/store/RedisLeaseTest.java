@@ -0,0 +1,104 @@
+package com.hidvid.tradierpark.infra.cluster.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 리더 임대 갱신/해제 Lua 스크립트를 실제 Redis에서 확인 (Docker 필요, ./gradlew redisTest)
+ */
+@Tag("redis")
+@Testcontainers
+class RedisLeaseTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+
+    private SharedStore nodeA;
+    private SharedStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = newStore();
+        nodeB = newStore();
+        nodeA.delete("cluster:leader");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Test
+    void leaseIsExclusiveUntilReleased() {
+        Duration ttl = Duration.ofMinutes(1);
+
+        assertTrue(nodeA.tryAcquireLease("cluster:leader", "node-a", ttl));
+        assertFalse(nodeB.tryAcquireLease("cluster:leader", "node-b", ttl));
+
+        // 보유자 갱신은 성공, 타 노드 해제 시도는 무시
+        assertTrue(nodeA.tryAcquireLease("cluster:leader", "node-a", ttl));
+        nodeB.releaseLease("cluster:leader", "node-b");
+        assertFalse(nodeB.tryAcquireLease("cluster:leader", "node-b", ttl));
+
+        nodeA.releaseLease("cluster:leader", "node-a");
+        assertTrue(nodeB.tryAcquireLease("cluster:leader", "node-b", ttl));
+    }
+
+    @Test
+    void renewalExtendsLease() throws InterruptedException {
+        assertTrue(nodeA.tryAcquireLease("cluster:leader", "node-a", Duration.ofMillis(300)));
+        assertTrue(nodeA.tryAcquireLease("cluster:leader", "node-a", Duration.ofMinutes(1)));
+
+        // 처음 TTL이 지나도 갱신된 임대는 유지
+        Thread.sleep(500);
+        assertFalse(nodeB.tryAcquireLease("cluster:leader", "node-b", Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void expiredLeaseCannotBeRenewedOrReleasedByPreviousOwner() throws InterruptedException {
+        assertTrue(nodeA.tryAcquireLease("cluster:leader", "node-a", Duration.ofMillis(100)));
+
+        Thread.sleep(200);
+        assertTrue(nodeB.tryAcquireLease("cluster:leader", "node-b", Duration.ofMinutes(1)));
+
+        // 만료 후 다른 노드가 가져간 임대를 이전 소유자가 덮어쓰거나 지우지 못해야 함
+        assertFalse(nodeA.tryAcquireLease("cluster:leader", "node-a", Duration.ofMinutes(1)));
+        nodeA.releaseLease("cluster:leader", "node-a");
+        assertTrue(nodeB.tryAcquireLease("cluster:leader", "node-b", Duration.ofMinutes(1)));
+        assertFalse(nodeA.tryAcquireLease("cluster:leader", "node-a", Duration.ofMinutes(1)));
+    }
+
+    private SharedStore newStore() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactories.add(connectionFactory);
+
+        // 임대 테스트는 구독을 쓰지 않으므로 리스너 컨테이너는 시작하지 않음
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+
+        return new RedisSharedStore(new StringRedisTemplate(connectionFactory), listenerContainer,
+                JsonMapper.builder().build());
+    }
+}
@@ -0,0 +1,175 @@
+package com.hidvid.tradierpark.infra.cluster.store;
+
+import com.hidvid.tradierpark.api.alert.dto.AlertEventDto;
+import com.hidvid.tradierpark.api.watchlist.dto.WatchlistRankDto;
+import com.hidvid.tradierpark.api.watchlist.service.WatchlistLeaderboard.RankingSnapshot;
+import com.hidvid.tradierpark.domain.alert.entity.AlertType;
+import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyBalanceResponse;
+import com.hidvid.tradierpark.infra.broker.kiwoom.dto.response.DailyChartResponse;
+import com.hidvid.tradierpark.infra.broker.kiwoom.service.KiwoomTokenProvider.KiwoomToken;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 두 인스턴스가 같은 Redis(LocalRedisServer)를 공유하는 상황 재현 - 직렬화/메시지 전달 확인용
+ * 임대(Lua 스크립트)는 LocalRedisServer가 실행하지 못하므로 RedisLeaseTest에서 실제 Redis로 확인한다.
+ */
+class RedisSharedStoreTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    private final List<Runnable> cleanups = new ArrayList<>();
+
+    private LocalRedisServer server;
+    private SharedStore nodeA;
+    private SharedStore nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new LocalRedisServer();
+        nodeA = newStore();
+        nodeB = newStore();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        cleanups.reversed().forEach(Runnable::run);
+        server.close();
+    }
+
+    @Test
+    void chartResponseRoundTrips() {
+        DailyChartResponse response = JSON_MAPPER.readValue("""
+                {"return_code":0,"return_msg":"OK","stk_cd":"005930",
+                 "stk_dt_pole_chart_qry":[{"dt":"20260105","open_pric":"71000","high_pric":"72500",
+                 "low_pric":"70800","cur_prc":"72000","trde_qty":"15000000","trde_prica":"1080000",
+                 "pred_pre":"+1200","pred_pre_sig":"2"}]}
+                """, DailyChartResponse.class);
+
+        nodeA.put("daily-chart:005930:20260105", response, Duration.ofMinutes(1));
+        DailyChartResponse loaded = nodeB.get("daily-chart:005930:20260105", DailyChartResponse.class).orElseThrow();
+
+        assertEquals(0, loaded.getReturnCode());
+        assertEquals("005930", loaded.getStockCode());
+        assertEquals(1, loaded.getChartItems().size());
+        assertEquals("72500", loaded.getChartItems().get(0).getHighPrice());
+        assertEquals("72000", loaded.getChartItems().get(0).getClosePrice());
+        assertEquals("2", loaded.getChartItems().get(0).getChangeSign());
+    }
+
+    @Test
+    void balanceResponseRoundTrips() {
+        DailyBalanceResponse response = JSON_MAPPER.readValue("""
+                {"return_code":0,"return_msg":"OK","dt":"20260105","tot_evlt_amt":"10500000","tot_prft_rt":"5.00",
+                 "day_bal_rt":[{"stk_cd":"005930","stk_nm":"삼성전자","cur_prc":"72000","rmnd_qty":"10",
+                 "prft_rt":"2.86"}]}
+                """, DailyBalanceResponse.class);
+
+        nodeA.put("daily-balance:20260105", response, Duration.ofMinutes(1));
+        DailyBalanceResponse loaded = nodeB.get("daily-balance:20260105", DailyBalanceResponse.class).orElseThrow();
+
+        assertEquals(0, loaded.getReturnCode());
+        assertEquals("10500000", loaded.getTotalEvalAmount());
+        assertEquals("5.00", loaded.getTotalProfitRate());
+        assertEquals("삼성전자", loaded.getStockBalances().get(0).getStockName());
+        assertEquals("2.86", loaded.getStockBalances().get(0).getProfitRate());
+    }
+
+    @Test
+    void tokenAndSnapshotsRoundTrip() {
+        KiwoomToken token = new KiwoomToken("token-1", System.currentTimeMillis() + 60_000);
+        nodeA.put("kiwoom:token", token, Duration.ofMinutes(1));
+        assertEquals(token, nodeB.get("kiwoom:token", KiwoomToken.class).orElseThrow());
+
+        RankingSnapshot snapshot = new RankingSnapshot(List.of(WatchlistRankDto.builder()
+                .rank(1)
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .groupNames(List.of("대형주"))
+                .highPrice(80_000)
+                .currentPrice(72_000)
+                .dropRate(-10.0)
+                .lastBarDate("20260105")
+                .build()));
+        nodeA.put("watchlist:ranking", snapshot, Duration.ofMinutes(1));
+        WatchlistRankDto rank = nodeB.get("watchlist:ranking", RankingSnapshot.class).orElseThrow().items().get(0);
+        assertEquals("005930", rank.getStockCode());
+        assertEquals(List.of("대형주"), rank.getGroupNames());
+        assertEquals(-10.0, rank.getDropRate());
+        assertEquals("20260105", rank.getLastBarDate());
+    }
+
+    @Test
+    void alertEventIsDeliveredToOtherNode() throws InterruptedException {
+        BlockingQueue<AlertEventDto> received = new LinkedBlockingQueue<>();
+        nodeB.subscribe("alerts:fired", AlertEventDto.class, received::add);
+
+        AlertEventDto event = AlertEventDto.builder()
+                .ruleId(7L)
+                .stockCode("005930")
+                .type(AlertType.PRICE_ABOVE)
+                .threshold(75_000)
+                .observed(75_100)
+                .price(75_100)
+                .triggeredAt(LocalDateTime.of(2026, 1, 5, 10, 30))
+                .build();
+
+        // 구독 등록은 비동기이므로 수신될 때까지 재발행
+        AlertEventDto delivered = null;
+        for (int i = 0; i < 50 && delivered == null; i++) {
+            nodeA.publish("alerts:fired", event);
+            delivered = received.poll(100, TimeUnit.MILLISECONDS);
+        }
+
+        assertNotNull(delivered);
+        assertEquals(7L, delivered.getRuleId());
+        assertEquals(AlertType.PRICE_ABOVE, delivered.getType());
+        assertEquals(75_100, delivered.getPrice());
+        assertEquals(LocalDateTime.of(2026, 1, 5, 10, 30), delivered.getTriggeredAt());
+    }
+
+    private SharedStore newStore() throws Exception {
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("127.0.0.1", server.getPort()), clientConfig);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        cleanups.add(connectionFactory::destroy);
+
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        cleanups.add(() -> {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        return new RedisSharedStore(new StringRedisTemplate(connectionFactory), listenerContainer, JSON_MAPPER);
+    }
+}
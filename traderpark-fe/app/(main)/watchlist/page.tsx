@@ -1,67 +1,21 @@
 "use client";
 
 import { useState } from "react";
-import { useQuery } from "@tanstack/react-query";
+import { useQuery, useQueryClient } from "@tanstack/react-query";
 import { Card, CardContent, CardHeader, CardTitle } from "@/components/ui/card";
 import { Badge } from "@/components/ui/badge";
 import { cn } from "@/lib/utils";
 import { TrendingDown, BarChart3, ArrowDown } from "lucide-react";
 import CandlestickChart from "@/components/stock/CandlestickChart";
-import { getDailyChart } from "@/lib/api/stocks";
-import type { DailyChart } from "@/types";
+import { refreshDailyChart } from "@/lib/api/stocks";
+import { getWatchlistGroups, getWatchlistLeaderboard } from "@/lib/api/watchlist";
+import type { DailyChart, WatchlistGroup, WatchlistRank } from "@/types";
 
 interface WatchlistStock {
   code: string;
   name: string;
 }
 
-interface WatchlistGroup {
-  label: string;
-  stocks: WatchlistStock[];
-}
-
-const WATCHLIST_GROUPS: WatchlistGroup[] = [
-  {
-    label: "개별종목",
-    stocks: [
-      { code: "241520", name: "DSC인베스트먼트" },
-    ],
-  },
-  {
-    label: "원자재 / AI",
-    stocks: [
-      { code: "132030", name: "KODEX 골드선물(H)" },
-      { code: "144600", name: "KODEX 은선물(H)" },
-      { code: "395160", name: "KODEX AI반도체" },
-      { code: "445290", name: "KODEX 로봇액티브" },
-      { code: "487240", name: "KODEX AI전력핵심설비" },
-      { code: "491010", name: "TIGER 글로벌AI전력인프라액티브" },
-    ],
-  },
-  {
-    label: "바이오",
-    stocks: [
-      { code: "244580", name: "KODEX 바이오" },
-      { code: "364970", name: "TIGER 바이오TOP10" },
-    ],
-  },
-  {
-    label: "방산 / 조선",
-    stocks: [
-      { code: "449450", name: "PLUS K방산" },
-      { code: "466920", name: "SOL 조선TOP3플러스" },
-    ],
-  },
-  {
-    label: "대형주",
-    stocks: [
-      { code: "005380", name: "현대차" },
-      { code: "000660", name: "SK하이닉스" },
-      { code: "005930", name: "삼성전자" },
-    ],
-  },
-];
-
 function formatNumber(num: number): string {
   return num.toLocaleString("ko-KR");
 }
@@ -74,12 +28,33 @@ function formatDate(dt: string): string {
 export default function WatchlistPage() {
   const [selectedStock, setSelectedStock] = useState<WatchlistStock | null>(null);
 
+  const queryClient = useQueryClient();
+
+  // 최초 1회만 전체 일봉을 받고, 이후 갱신은 마지막 봉 이후만 받아 병합
   const { data: chartData, isLoading, error } = useQuery<DailyChart>({
     queryKey: ["dailyChart", selectedStock?.code],
-    queryFn: () => getDailyChart(selectedStock!.code),
+    queryFn: () =>
+      refreshDailyChart(
+        selectedStock!.code,
+        queryClient.getQueryData<DailyChart>(["dailyChart", selectedStock!.code])
+      ),
     enabled: !!selectedStock,
   });
 
+  const { data: groups = [] } = useQuery<WatchlistGroup[]>({
+    queryKey: ["watchlistGroups"],
+    queryFn: getWatchlistGroups,
+  });
+
+  // 고점대비 하락률은 서버에서 백그라운드로 집계된 순위를 한 번에 조회
+  const { data: ranking = [] } = useQuery<WatchlistRank[]>({
+    queryKey: ["watchlistLeaderboard"],
+    queryFn: getWatchlistLeaderboard,
+    refetchInterval: 60 * 1000,
+  });
+
+  const rankByCode = new Map(ranking.map((rank) => [rank.stockCode, rank]));
+
   const handleStockClick = (stock: WatchlistStock) => {
     setSelectedStock(stock);
   };
@@ -91,18 +66,20 @@ export default function WatchlistPage() {
       <div className="grid grid-cols-1 gap-4 lg:grid-cols-3">
         {/* Left: Stock List */}
         <div className="space-y-3 lg:col-span-1">
-          {WATCHLIST_GROUPS.map((group) => (
-            <Card key={group.label}>
+          {groups.map((group) => (
+            <Card key={group.id}>
               <CardHeader className="pb-2 pt-3 px-4">
-                <CardTitle className="text-sm text-muted-foreground">{group.label}</CardTitle>
+                <CardTitle className="text-sm text-muted-foreground">{group.name}</CardTitle>
               </CardHeader>
               <CardContent className="px-2 pb-2">
                 <div className="space-y-0.5">
-                  {group.stocks.map((stock) => {
+                  {group.items.map((item) => {
+                    const stock: WatchlistStock = { code: item.stockCode, name: item.stockName };
+                    const rank = rankByCode.get(stock.code);
                     const isSelected = selectedStock?.code === stock.code;
                     return (
                       <button
-                        key={stock.code}
+                        key={item.id}
                         onClick={() => handleStockClick(stock)}
                         className={cn(
                           "flex w-full items-center justify-between rounded-md px-3 py-2 text-left text-sm transition-colors",
@@ -111,7 +88,18 @@ export default function WatchlistPage() {
                         )}
                       >
                         <span>{stock.name}</span>
-                        <span className="text-xs text-muted-foreground">{stock.code}</span>
+                        {rank?.lastBarDate ? (
+                          <span
+                            className={cn(
+                              "text-xs",
+                              rank.dropRate < 0 ? "text-blue-500" : "text-muted-foreground"
+                            )}
+                          >
+                            {rank.dropRate}%
+                          </span>
+                        ) : (
+                          <span className="text-xs text-muted-foreground">{stock.code}</span>
+                        )}
                       </button>
                     );
                   })}
@@ -124,12 +112,56 @@ export default function WatchlistPage() {
         {/* Right: Chart Area */}
         <div className="space-y-4 lg:col-span-2">
           {!selectedStock ? (
-            <Card>
-              <CardContent className="flex flex-col items-center justify-center py-20 text-muted-foreground">
-                <BarChart3 className="mb-3 h-10 w-10" />
-                <p>종목을 선택하면 일봉 차트를 조회합니다</p>
-              </CardContent>
-            </Card>
+            ranking.some((rank) => rank.lastBarDate) ? (
+              <Card>
+                <CardHeader className="pb-2">
+                  <CardTitle className="flex items-center gap-2 text-lg">
+                    <TrendingDown className="h-5 w-5" />
+                    고점대비 하락률 순위
+                  </CardTitle>
+                </CardHeader>
+                <CardContent className="px-2 pb-2">
+                  <div className="space-y-0.5">
+                    {ranking.map((rank) => (
+                      <button
+                        key={rank.stockCode}
+                        onClick={() => handleStockClick({ code: rank.stockCode, name: rank.stockName })}
+                        className="flex w-full items-center justify-between rounded-md px-3 py-2 text-left text-sm transition-colors hover:bg-accent"
+                      >
+                        <span className="flex items-center gap-2">
+                          <span className="w-6 text-xs text-muted-foreground">{rank.rank}</span>
+                          <span>{rank.stockName}</span>
+                        </span>
+                        {rank.lastBarDate ? (
+                          <span className="flex items-center gap-3">
+                            <span className="text-xs text-muted-foreground">
+                              {formatNumber(rank.currentPrice)} / {formatNumber(rank.highPrice)}
+                            </span>
+                            <span
+                              className={cn(
+                                "w-16 text-right font-medium",
+                                rank.dropRate < 0 ? "text-blue-500" : "text-red-500"
+                              )}
+                            >
+                              {rank.dropRate}%
+                            </span>
+                          </span>
+                        ) : (
+                          <span className="text-xs text-muted-foreground">집계 중</span>
+                        )}
+                      </button>
+                    ))}
+                  </div>
+                </CardContent>
+              </Card>
+            ) : (
+              <Card>
+                <CardContent className="flex flex-col items-center justify-center py-20 text-muted-foreground">
+                  <BarChart3 className="mb-3 h-10 w-10" />
+                  <p>종목을 선택하면 일봉 차트를 조회합니다</p>
+                </CardContent>
+              </Card>
+            )
           ) : isLoading ? (
             <Card>
               <CardContent className="flex items-center justify-center py-20 text-muted-foreground">
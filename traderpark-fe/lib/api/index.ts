@@ -1,3 +1,4 @@
 export * from "./stocks";
 export * from "./portfolio";
+export * from "./watchlist";
 export { default as apiClient } from "./client";
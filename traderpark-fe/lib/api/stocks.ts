@@ -33,9 +33,35 @@ export async function executeSearchCondition(conditionId: number): Promise<Searc
   return response.data;
 }
 
-// 일봉 차트 조회
-export async function getDailyChart(code: string, date?: string): Promise<DailyChart> {
-  const params = date ? { date } : {};
+// 일봉 차트 조회 (since 지정 시 해당 날짜 이후 봉만 조회)
+export async function getDailyChart(code: string, date?: string, since?: string): Promise<DailyChart> {
+  const params = { ...(date ? { date } : {}), ...(since ? { since } : {}) };
   const response = await apiClient.get(`/stocks/${code}/daily-chart`, { params });
   return response.data;
 }
+
+// 일봉 차트 증분 갱신 - 보유한 마지막 봉 이후만 받아 기존 데이터에 병합
+export async function refreshDailyChart(code: string, previous?: DailyChart): Promise<DailyChart> {
+  const lastDate = previous?.items[0]?.date;
+  if (!previous || !lastDate) {
+    return getDailyChart(code);
+  }
+
+  const delta = await getDailyChart(code, undefined, lastDate);
+  return mergeDailyChart(previous, delta);
+}
+
+// items는 최신순 - 증분 봉(마지막 봉 갱신분 포함) + 기존 봉 중 증분 이전 날짜
+// 서버 조회 구간(처음 전체 조회한 봉 개수)만 유지해 highPrice/dropRate 기준 구간과 맞춤
+export function mergeDailyChart(previous: DailyChart, delta: DailyChart): DailyChart {
+  if (delta.items.length === 0) {
+    return { ...previous, highPrice: delta.highPrice, currentPrice: delta.currentPrice, dropRate: delta.dropRate };
+  }
+
+  const oldestDeltaDate = delta.items[delta.items.length - 1].date;
+  const windowSize = Math.max(previous.items.length, delta.items.length);
+  return {
+    ...delta,
+    items: [...delta.items, ...previous.items.filter((item) => item.date < oldestDeltaDate)].slice(0, windowSize),
+  };
+}
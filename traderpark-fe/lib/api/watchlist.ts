@@ -0,0 +1,43 @@
+import apiClient from "./client";
+import type { WatchlistGroup, WatchlistRank } from "@/types";
+
+// 관심종목 그룹 목록 조회
+export async function getWatchlistGroups(): Promise<WatchlistGroup[]> {
+  const response = await apiClient.get(`/watchlist/groups`);
+  return response.data;
+}
+
+// 관심종목 그룹 생성
+export async function createWatchlistGroup(name: string): Promise<WatchlistGroup> {
+  const response = await apiClient.post(`/watchlist/groups`, { name });
+  return response.data;
+}
+
+// 관심종목 그룹 삭제
+export async function deleteWatchlistGroup(groupId: number): Promise<void> {
+  await apiClient.delete(`/watchlist/groups/${groupId}`);
+}
+
+// 관심종목 그룹에 종목 추가
+export async function addWatchlistItem(
+  groupId: number,
+  stockCode: string,
+  stockName?: string
+): Promise<WatchlistGroup> {
+  const response = await apiClient.post(`/watchlist/groups/${groupId}/items`, {
+    stockCode,
+    stockName,
+  });
+  return response.data;
+}
+
+// 관심종목 그룹에서 종목 삭제
+export async function removeWatchlistItem(groupId: number, itemId: number): Promise<void> {
+  await apiClient.delete(`/watchlist/groups/${groupId}/items/${itemId}`);
+}
+
+// 고점대비 하락률 순위 조회 (서버에서 미리 계산된 결과)
+export async function getWatchlistLeaderboard(): Promise<WatchlistRank[]> {
+  const response = await apiClient.get(`/watchlist/leaderboard`);
+  return response.data;
+}
@@ -158,3 +158,28 @@ export interface DailyChart {
   dropRate: number;
   items: DailyChartItem[];
 }
+
+// 관심종목 그룹 (서버 저장)
+export interface WatchlistGroup {
+  id: number;
+  name: string;
+  items: WatchlistGroupItem[];
+}
+
+export interface WatchlistGroupItem {
+  id: number;
+  stockCode: string;
+  stockName: string;
+}
+
+// 관심종목 고점대비 하락률 순위
+export interface WatchlistRank {
+  rank: number;
+  stockCode: string;
+  stockName: string;
+  groupNames: string[];
+  highPrice: number;
+  currentPrice: number;
+  dropRate: number;
+  lastBarDate: string | null;
+}